@@ -0,0 +1,203 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.*;
+import datastructures.MyPriorityQueue;
+import model.Course;
+import model.Department;
+import model.Professor;
+import model.ProfessorSelection;
+import model.ProfessorSelection.CourseRequest;
+import service.AssignmentPolicy;
+import service.AssignmentService;
+import service.SelectionTable;
+
+/**
+ * Compares the assignment policies on the same generated department, in which the professors request more groups than there are.
+ * For each policy it measures the time of the assignment and the quality of the result: the groups assigned,
+ * the groups left unfilled, the professors left without any group, and the mean and variance of the weekly hours of the professors.
+ * Run it from the root of the project, the department reads its default courses file before they are replaced.
+ */
+public class AssignmentPolicyBenchmark {
+
+    private static final long SEED = 42;
+    private static final int NUM_OF_DISCIPLINES = 20;
+    private static final int[] NUMBERS_OF_HOURS = {45, 60, 75, 90};
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optional number of professors (default 1,000) and number of rounds (default 5)
+     */
+    public static void main(String[] args) {
+        int numOfProfs = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        System.out.printf("Assigning %,d professors and %,d courses, %d rounds%n", numOfProfs, getNumOfCourses(numOfProfs), rounds);
+        for (int round = 1; round <= rounds; round++) {
+            System.out.println("Round " + round);
+            for (AssignmentPolicy policy : AssignmentPolicy.all()) {
+                run(policy, numOfProfs);
+            }
+        }
+    }
+
+    /**
+     * Measures one policy on a newly generated department.
+     *
+     * @param policy the policy
+     * @param numOfProfs the number of professors
+     */
+    private static void run(AssignmentPolicy policy, int numOfProfs) {
+        // La misma semilla genera el mismo departamento para cada política
+        Random random = new Random(SEED);
+        ArrayList<Professor> listOfProfs = createProfessors(numOfProfs, random);
+        HashMap<String, Course> courseMap = createCourses(getNumOfCourses(numOfProfs), random);
+        SelectionTable selectionTable = createSelections(listOfProfs, new ArrayList<>(courseMap.values()), random);
+
+        Department department = new Department(listOfProfs);
+        department.setCourseMap(courseMap);
+        MyPriorityQueue<Professor> profProcessingQueue = new MyPriorityQueue<>();
+        for (Professor professor : listOfProfs) {
+            profProcessingQueue.enqueue(professor);
+        }
+        AssignmentService assignmentService = new AssignmentService(department, "", policy);
+
+        // Los mensajes de cada solicitud rechazada no forman parte de la medida
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long start = System.nanoTime();
+        try {
+            assignmentService.assignAll(profProcessingQueue, selectionTable);
+        } finally {
+            System.setOut(out);
+        }
+        long elapsed = System.nanoTime() - start;
+        report(policy.getName(), elapsed, listOfProfs, courseMap);
+    }
+
+    /**
+     * Prints the measures of one policy.
+     *
+     * @param name the name of the policy
+     * @param elapsedNanos the time spent assigning the courses
+     * @param listOfProfs the professors, after the assignment
+     * @param courseMap the courses, after the assignment
+     */
+    private static void report(String name, long elapsedNanos, List<Professor> listOfProfs, Map<String, Course> courseMap) {
+        int assignedGroups = 0;
+        int idleProfs = 0;
+        long totalHours = 0;
+        long totalSquaredHours = 0;
+        int minHours = Integer.MAX_VALUE;
+        int maxHours = 0;
+        for (Professor professor : listOfProfs) {
+            int numOfGroups = 0;
+            if (professor.getListOfAffectedCourses() != null) {
+                for (Course course : professor.getListOfAffectedCourses()) {
+                    numOfGroups += course.getNumOfGroups();
+                }
+            }
+            if (numOfGroups == 0) {
+                idleProfs++;
+            }
+            assignedGroups += numOfGroups;
+            int hours = professor.getTotalWeeklyHours();
+            totalHours += hours;
+            totalSquaredHours += (long) hours * hours;
+            minHours = Math.min(minHours, hours);
+            maxHours = Math.max(maxHours, hours);
+        }
+        int unfilledGroups = 0;
+        for (Course course : courseMap.values()) {
+            unfilledGroups += course.getNumOfGroups();
+        }
+        double mean = (double) totalHours / listOfProfs.size();
+        double variance = (double) totalSquaredHours / listOfProfs.size() - mean * mean;
+        System.out.printf("  %-14s %8.1f ms, assigned %,7d groups, unfilled %,7d groups, idle %,6d profs, weekly hours mean %5.2f variance %6.2f (min %d, max %d)%n",
+                name, elapsedNanos / 1e6, assignedGroups, unfilledGroups, idleProfs, mean, variance, minHours, maxHours);
+    }
+
+    /**
+     * Returns the number of courses generated for a number of professors.
+     *
+     * @param numOfProfs the number of professors
+     * @return the number of courses
+     */
+    private static int getNumOfCourses(int numOfProfs) {
+        return Math.max(1, numOfProfs / 2);
+    }
+
+    /**
+     * Creates professors with distinct ids, random seniorities and one to three disciplines.
+     *
+     * @param numOfProfs the number of professors
+     * @param random the source of randomness
+     * @return the professors
+     */
+    private static ArrayList<Professor> createProfessors(int numOfProfs, Random random) {
+        ArrayList<Professor> professors = new ArrayList<>(numOfProfs);
+        for (int i = 0; i < numOfProfs; i++) {
+            Set<String> disciplines = new HashSet<>();
+            int numOfDisciplines = 1 + random.nextInt(3);
+            while (disciplines.size() < numOfDisciplines) {
+                disciplines.add("IN" + random.nextInt(NUM_OF_DISCIPLINES));
+            }
+            Date hiringDate = new Date(random.nextInt(30 * 365) * 86_400_000L);
+            professors.add(new Professor(i + 1000, "Professor " + i, random.nextInt(2000) / 100.0, hiringDate, disciplines));
+        }
+        return professors;
+    }
+
+    /**
+     * Creates courses of random disciplines, hours and numbers of groups.
+     *
+     * @param numOfCourses the number of courses
+     * @param random the source of randomness
+     * @return the courses by id
+     */
+    private static HashMap<String, Course> createCourses(int numOfCourses, Random random) {
+        HashMap<String, Course> courseMap = new HashMap<>();
+        for (int i = 0; i < numOfCourses; i++) {
+            String id = "C" + i;
+            String discipline = "IN" + random.nextInt(NUM_OF_DISCIPLINES);
+            int numberOfHours = NUMBERS_OF_HOURS[random.nextInt(NUMBERS_OF_HOURS.length)];
+            courseMap.put(id, new Course(id, "Course " + i, discipline, numberOfHours, 1 + random.nextInt(6)));
+        }
+        return courseMap;
+    }
+
+    /**
+     * Creates a selection for each professor: between 20 and 30 weekly hours, and two to five requests
+     * of one to four groups, mostly for courses of their disciplines.
+     *
+     * @param listOfProfs the professors
+     * @param courses the courses
+     * @param random the source of randomness
+     * @return the selections
+     */
+    private static SelectionTable createSelections(List<Professor> listOfProfs, List<Course> courses, Random random) {
+        Map<String, List<Course>> coursesByDiscipline = new HashMap<>();
+        for (Course course : courses) {
+            coursesByDiscipline.computeIfAbsent(course.getDiscipline(), discipline -> new ArrayList<>()).add(course);
+        }
+        List<ProfessorSelection> selections = new ArrayList<>(listOfProfs.size());
+        for (Professor professor : listOfProfs) {
+            int totalHours = 20 + random.nextInt(11);
+            List<String> disciplines = new ArrayList<>(new TreeSet<>(professor.getSetOfDisciplines()));
+            List<CourseRequest> requests = new ArrayList<>();
+            int numOfRequests = 2 + random.nextInt(4);
+            for (int i = 0; i < numOfRequests; i++) {
+                List<Course> candidates = coursesByDiscipline.get(disciplines.get(random.nextInt(disciplines.size())));
+                // Una de cada diez solicitudes es para un curso de otra disciplina
+                Course course = candidates == null || random.nextInt(10) == 0
+                        ? courses.get(random.nextInt(courses.size()))
+                        : candidates.get(random.nextInt(candidates.size()));
+                requests.add(new CourseRequest(course.getId(), 1 + random.nextInt(4), totalHours));
+            }
+            selections.add(new ProfessorSelection(professor.getId(), requests));
+        }
+        return new SelectionTable(selections);
+    }
+}
@@ -0,0 +1,150 @@
+package benchmark;
+
+import java.util.*;
+import datastructures.MyIntHashMap;
+import model.Professor;
+
+/**
+ * Compares the primitive int-keyed MyIntHashMap with a HashMap with Integer keys for indexing professors by id.
+ * For each map it measures the time to insert every professor, the time to look up every id plus as many missing ids,
+ * and the memory retained by the map.
+ */
+public class ProfessorIndexBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optional number of professors (default 1,000,000) and number of rounds (default 5)
+     */
+    public static void main(String[] args) {
+        int numOfProfs = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Professor[] professors = createProfessors(numOfProfs);
+        int[] lookups = createLookups(numOfProfs);
+
+        System.out.printf("Indexing %,d professors, %d rounds%n", numOfProfs, rounds);
+        for (int round = 1; round <= rounds; round++) {
+            System.out.println("Round " + round);
+            runIntHashMap(professors, lookups);
+            runHashMap(professors, lookups);
+        }
+    }
+
+    /**
+     * Measures MyIntHashMap.
+     *
+     * @param professors the professors to index
+     * @param lookups the ids to look up
+     */
+    private static void runIntHashMap(Professor[] professors, int[] lookups) {
+        long before = usedMemory();
+        long start = System.nanoTime();
+        MyIntHashMap<Professor> index = new MyIntHashMap<>();
+        for (Professor professor : professors) {
+            index.put(professor.getId(), professor);
+        }
+        long built = System.nanoTime();
+        int found = 0;
+        for (int id : lookups) {
+            if (index.get(id) != null) {
+                found++;
+            }
+        }
+        long end = System.nanoTime();
+        long memory = usedMemory() - before;
+        report("MyIntHashMap", built - start, end - built, lookups.length, found, memory, index.size());
+    }
+
+    /**
+     * Measures HashMap with Integer keys.
+     *
+     * @param professors the professors to index
+     * @param lookups the ids to look up
+     */
+    private static void runHashMap(Professor[] professors, int[] lookups) {
+        long before = usedMemory();
+        long start = System.nanoTime();
+        HashMap<Integer, Professor> index = new HashMap<>();
+        for (Professor professor : professors) {
+            index.put(professor.getId(), professor);
+        }
+        long built = System.nanoTime();
+        int found = 0;
+        for (int id : lookups) {
+            if (index.get(id) != null) {
+                found++;
+            }
+        }
+        long end = System.nanoTime();
+        long memory = usedMemory() - before;
+        report("HashMap<Integer, Professor>", built - start, end - built, lookups.length, found, memory, index.size());
+    }
+
+    /**
+     * Prints the measures of one map.
+     *
+     * @param name the name of the map
+     * @param buildNanos the time spent inserting the professors
+     * @param lookupNanos the time spent looking up the ids
+     * @param numOfLookups the number of ids looked up
+     * @param found the number of ids found
+     * @param memory the memory retained by the map, in bytes
+     * @param size the number of entries of the map
+     */
+    private static void report(String name, long buildNanos, long lookupNanos, int numOfLookups, int found, long memory, int size) {
+        System.out.printf("  %-40s build %8.1f ms, lookups %8.1f ms (%5.1f ns/op, %,d found), retained %,8d KB%n",
+                name + " (" + size + ")", buildNanos / 1e6, lookupNanos / 1e6, (double) lookupNanos / numOfLookups, found, memory / 1024);
+    }
+
+    /**
+     * Creates professors with distinct, non-consecutive ids.
+     *
+     * @param numOfProfs the number of professors
+     * @return the professors
+     */
+    private static Professor[] createProfessors(int numOfProfs) {
+        Professor[] professors = new Professor[numOfProfs];
+        Date hiringDate = new Date(0);
+        Set<String> disciplines = Set.of("IN4");
+        for (int i = 0; i < numOfProfs; i++) {
+            professors[i] = new Professor(i * 7 + 1000, "Professor " + i, i % 20, hiringDate, disciplines);
+        }
+        return professors;
+    }
+
+    /**
+     * Creates a shuffled list of ids, half of which belong to a professor.
+     *
+     * @param numOfProfs the number of professors
+     * @return the ids to look up
+     */
+    private static int[] createLookups(int numOfProfs) {
+        int[] lookups = new int[numOfProfs * 2];
+        for (int i = 0; i < numOfProfs; i++) {
+            lookups[2 * i] = i * 7 + 1000;
+            lookups[2 * i + 1] = i * 7 + 1003;
+        }
+        Random random = new Random(42);
+        for (int i = lookups.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = lookups[i];
+            lookups[i] = lookups[j];
+            lookups[j] = tmp;
+        }
+        return lookups;
+    }
+
+    /**
+     * Returns the memory used by the heap after a garbage collection.
+     *
+     * @return the used memory, in bytes
+     */
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,127 @@
+package check;
+
+import java.util.*;
+import datastructures.MyIndexedPriorityQueue;
+import model.Professor;
+
+/**
+ * Checks MyIndexedPriorityQueue against a plain map of professors on random operations.
+ * After every enqueue, dequeue, peek, changePriority, remove and contains, the queue must agree with the map,
+ * and the professor at the head of the queue must be the greatest one according to {@link Professor#compareTo(Professor)},
+ * as given by {@link Collections#max(Collection)}. Seniorities and hiring dates are drawn from small sets
+ * so that the ties broken by the hiring date and by the id are exercised.
+ * The check prints the first difference and exits with status 1, or prints a summary and exits normally.
+ */
+public class MyIndexedPriorityQueueCheck {
+
+    private static final int MAX_ID = 200;
+
+    /**
+     * Runs the check.
+     *
+     * @param args optional number of operations (default 200,000) and random seed (default 42)
+     */
+    public static void main(String[] args) {
+        int numOfOperations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+
+        Random random = new Random(seed);
+        MyIndexedPriorityQueue<Professor> queue = new MyIndexedPriorityQueue<>(Professor::getId);
+        HashMap<Integer, Professor> expected = new HashMap<>();
+        int[] counts = new int[6];
+
+        for (int operation = 1; operation <= numOfOperations; operation++) {
+            int id = random.nextInt(MAX_ID);
+            // Las inserciones son más frecuentes, para que la cola crezca y tenga que redimensionarse
+            int kind = Math.max(0, random.nextInt(counts.length + 2) - 2);
+            counts[kind]++;
+            switch (kind) {
+                case 0 -> {
+                    Professor professor = createProfessor(id, random);
+                    boolean rejected = false;
+                    try {
+                        queue.enqueue(professor);
+                    } catch (IllegalArgumentException e) {
+                        rejected = true;
+                    }
+                    check(rejected == expected.containsKey(id), operation, "enqueue of id " + id + " rejected: " + rejected);
+                    expected.putIfAbsent(id, professor);
+                }
+                case 1 -> {
+                    if (expected.isEmpty()) {
+                        check(queue.isEmpty(), operation, "queue not empty");
+                        continue;
+                    }
+                    Professor greatest = Collections.max(expected.values());
+                    Professor dequeued = queue.dequeue();
+                    check(dequeued == greatest, operation, "dequeued " + dequeued + " instead of " + greatest);
+                    expected.remove(dequeued.getId());
+                }
+                case 2 -> {
+                    Professor professor = createProfessor(id, random);
+                    boolean rejected = false;
+                    try {
+                        queue.changePriority(professor);
+                    } catch (IllegalArgumentException e) {
+                        rejected = true;
+                    }
+                    check(rejected != expected.containsKey(id), operation, "changePriority of id " + id + " rejected: " + rejected);
+                    expected.replace(id, professor);
+                }
+                case 3 -> {
+                    boolean removed = queue.remove(createProfessor(id, random));
+                    check(removed == (expected.remove(id) != null), operation, "remove of id " + id + " returned " + removed);
+                }
+                case 4 -> {
+                    boolean contained = queue.contains(createProfessor(id, random));
+                    check(contained == expected.containsKey(id), operation, "contains of id " + id + " returned " + contained);
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        Professor greatest = Collections.max(expected.values());
+                        check(queue.peek() == greatest, operation, "peek returned " + queue.peek() + " instead of " + greatest);
+                    }
+                }
+            }
+            check(queue.size() == expected.size(), operation, "size " + queue.size() + " instead of " + expected.size());
+        }
+
+        // Vaciar la cola debe devolver a los profesores en el orden de compareTo, de mayor a menor
+        List<Professor> remaining = new ArrayList<>(expected.values());
+        remaining.sort(Collections.reverseOrder());
+        for (Professor professor : remaining) {
+            Professor dequeued = queue.dequeue();
+            check(dequeued == professor, numOfOperations, "draining returned " + dequeued + " instead of " + professor);
+        }
+        check(queue.isEmpty(), numOfOperations, "queue not empty after draining");
+
+        System.out.printf("OK: %,d operations (enqueue %,d, dequeue %,d, changePriority %,d, remove %,d, contains %,d, peek %,d), %d drained%n",
+                numOfOperations, counts[0], counts[1], counts[2], counts[3], counts[4], counts[5], remaining.size());
+    }
+
+    /**
+     * Creates a professor with a seniority and a hiring date drawn from small sets.
+     *
+     * @param id the id of the professor
+     * @param random the source of randomness
+     * @return the professor
+     */
+    private static Professor createProfessor(int id, Random random) {
+        Date hiringDate = new Date(random.nextInt(4) * 365 * 86_400_000L);
+        return new Professor(id, "Professor " + id, random.nextInt(5) / 2.0, hiringDate, Set.of("IN4"));
+    }
+
+    /**
+     * Stops the check if a condition does not hold.
+     *
+     * @param condition the condition
+     * @param operation the number of the operation being checked
+     * @param message the description of the difference
+     */
+    private static void check(boolean condition, int operation, String message) {
+        if (!condition) {
+            System.out.println("FAILED at operation " + operation + ": " + message);
+            System.exit(1);
+        }
+    }
+}
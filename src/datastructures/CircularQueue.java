@@ -90,7 +90,7 @@ public class CircularQueue<T extends Comparable<T>>{
      */
     public void resize() {
         int newSize = size * 2;
-        T[] newArray = (T[]) new Object[newSize];
+        T[] newArray = (T[]) new Comparable[newSize];
         int i = 0;
         int j = front;
         while (j != rear) {
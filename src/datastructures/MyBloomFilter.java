@@ -0,0 +1,76 @@
+package datastructures;
+
+/**
+ * A Bloom filter: a compact set that can tell for sure that an element was never added.
+ * The filter is implemented as an array of bits and uses several hash functions derived from the element's hash code.
+ * A positive answer may be wrong with a small probability, a negative answer is always right.
+ *
+ * @param <T> the type of elements held in this filter.
+ */
+public class MyBloomFilter<T> {
+    private final long[] bits;
+    private final int numOfBits;
+    private final int numOfHashes;
+
+    /**
+     * Constructor with sizing. Initializes an empty filter able to hold the expected number of elements
+     * with the specified false positive probability.
+     *
+     * @param expectedInsertions the number of elements expected to be added.
+     * @param falsePositiveRate the accepted probability of a false positive, between 0 and 1.
+     */
+    public MyBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numOfBits = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+        this.numOfHashes = Math.max(1, (int) Math.round((double) numOfBits / n * Math.log(2)));
+        this.bits = new long[(numOfBits + 63) >>> 6];
+    }
+
+    /**
+     * Adds an element to the filter.
+     *
+     * @param item the element to add.
+     */
+    public void add(T item) {
+        int hash1 = mix(item.hashCode());
+        int hash2 = mix(hash1 ^ 0x9E3779B9) | 1;
+        for (int i = 0; i < numOfHashes; i++) {
+            int index = Math.floorMod(hash1 + i * hash2, numOfBits);
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    /**
+     * Checks if an element may have been added to the filter.
+     *
+     * @param item the element to look for.
+     * @return false if the element was never added, true if it probably was.
+     */
+    public boolean mightContain(T item) {
+        int hash1 = mix(item.hashCode());
+        int hash2 = mix(hash1 ^ 0x9E3779B9) | 1;
+        for (int i = 0; i < numOfHashes; i++) {
+            int index = Math.floorMod(hash1 + i * hash2, numOfBits);
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Spreads the bits of a hash code so that close hash codes give distant positions.
+     *
+     * @param hash the hash code to mix.
+     * @return the mixed hash code.
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
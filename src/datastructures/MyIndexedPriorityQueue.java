@@ -0,0 +1,249 @@
+package datastructures;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * A priority queue that knows where each of its elements is stored.
+ * The queue is implemented as a binary max-heap in an array, plus a map from the key of each element to its slot,
+ * which holds the position of the element in the heap. The slots move with their elements in a parallel array,
+ * so moving an element up or down the heap updates its position without looking up the map or boxing the position.
+ * Like MyPriorityQueue, the greatest element according to compareTo is dequeued first.
+ * Because positions are tracked, an element can be re-ranked, removed or looked up in O(log n) without rebuilding the queue.
+ * Two elements with the same key cannot be in the queue at the same time.
+ *
+ * @param <T> the type of elements held in this queue.
+ */
+public class MyIndexedPriorityQueue<T extends Comparable<T>> {
+    protected T[] heap;
+    protected int size;
+    private Slot[] slots;
+    private final MyIntHashMap<Slot> positions;
+    private final ToIntFunction<T> keyFunction;
+
+    /**
+     * Constructor with key. Initializes an empty queue with a capacity of 20.
+     *
+     * @param keyFunction the function giving the key of an element, for example {@code Professor::getId}.
+     */
+    @SuppressWarnings("unchecked")
+    public MyIndexedPriorityQueue(ToIntFunction<T> keyFunction) {
+        this.heap = (T[]) new Comparable<?>[20];
+        this.slots = new Slot[20];
+        this.size = 0;
+        this.positions = new MyIntHashMap<>();
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the queue.
+     *
+     * @return the number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if an element with the same key as the specified element is in the queue.
+     *
+     * @param item the element to look for.
+     * @return true if an element with the same key is in the queue, false otherwise.
+     */
+    public boolean contains(T item) {
+        return positions.containsKey(keyFunction.applyAsInt(item));
+    }
+
+    /**
+     * Adds an item to the queue based on its priority.
+     * If the queue is full, it will be resized before adding the item.
+     *
+     * @param item the item to add to the queue.
+     * @throws IllegalArgumentException if an element with the same key is already in the queue.
+     */
+    public void enqueue(T item) {
+        int key = keyFunction.applyAsInt(item);
+        if (positions.containsKey(key)) {
+            throw new IllegalArgumentException("An element with key " + key + " is already in the queue");
+        }
+        if (size == heap.length) {
+            resize();
+        }
+        Slot slot = new Slot();
+        positions.put(key, slot);
+        place(item, slot, size);
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Removes the item with the highest priority from the queue.
+     *
+     * @return the item that was removed.
+     * @throws IllegalStateException if the queue is empty.
+     */
+    public T dequeue() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        return removeAt(0);
+    }
+
+    /**
+     * Returns the item with the highest priority without removing it.
+     *
+     * @return the item with the highest priority.
+     * @throws IllegalStateException if the queue is empty.
+     */
+    public T peek() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes the element with the same key as the specified element.
+     *
+     * @param item the element to remove.
+     * @return true if an element was removed, false if no element had this key.
+     */
+    public boolean remove(T item) {
+        Slot slot = positions.get(keyFunction.applyAsInt(item));
+        if (slot == null) {
+            return false;
+        }
+        removeAt(slot.position);
+        return true;
+    }
+
+    /**
+     * Replaces the element with the same key as the specified element and moves it to its new rank.
+     * This is used when the data the priority depends on, such as the seniority of a professor, has changed.
+     *
+     * @param item the new version of the element.
+     * @throws IllegalArgumentException if no element with the same key is in the queue.
+     */
+    public void changePriority(T item) {
+        int key = keyFunction.applyAsInt(item);
+        Slot slot = positions.get(key);
+        if (slot == null) {
+            throw new IllegalArgumentException("No element with key " + key + " in the queue");
+        }
+        int position = slot.position;
+        T previous = heap[position];
+        place(item, slot, position);
+        if (item.compareTo(previous) > 0) {
+            siftUp(position);
+        } else {
+            siftDown(position);
+        }
+    }
+
+    /**
+     * Removes the element at a position of the heap and restores the heap order.
+     *
+     * @param position the position of the element to remove.
+     * @return the removed element.
+     */
+    private T removeAt(int position) {
+        T item = heap[position];
+        positions.remove(keyFunction.applyAsInt(item));
+        size--;
+        if (position < size) {
+            // El último elemento ocupa el lugar libre y luego sube o baja según su prioridad
+            place(heap[size], slots[size], position);
+            heap[size] = null;
+            slots[size] = null;
+            siftDown(position);
+            siftUp(position);
+        } else {
+            heap[size] = null;
+            slots[size] = null;
+        }
+        return item;
+    }
+
+    /**
+     * Moves an element up while it has a higher priority than its parent.
+     *
+     * @param position the position of the element.
+     */
+    private void siftUp(int position) {
+        T item = heap[position];
+        Slot slot = slots[position];
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (item.compareTo(heap[parent]) <= 0) {
+                break;
+            }
+            place(heap[parent], slots[parent], position);
+            position = parent;
+        }
+        place(item, slot, position);
+    }
+
+    /**
+     * Moves an element down while one of its children has a higher priority.
+     *
+     * @param position the position of the element.
+     */
+    private void siftDown(int position) {
+        T item = heap[position];
+        Slot slot = slots[position];
+        int half = size / 2;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && heap[child + 1].compareTo(heap[child]) > 0) {
+                child++;
+            }
+            if (item.compareTo(heap[child]) >= 0) {
+                break;
+            }
+            place(heap[child], slots[child], position);
+            position = child;
+        }
+        place(item, slot, position);
+    }
+
+    /**
+     * Stores an element and its slot at a position of the heap and records the position in the slot.
+     *
+     * @param item the element.
+     * @param slot the slot of the element.
+     * @param position the position of the element.
+     */
+    private void place(T item, Slot slot, int position) {
+        heap[position] = item;
+        slots[position] = slot;
+        slot.position = position;
+    }
+
+    /**
+     * Resizes the queue to twice its current size.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize() {
+        T[] newHeap = (T[]) new Comparable<?>[heap.length * 2];
+        System.arraycopy(heap, 0, newHeap, 0, size);
+        heap = newHeap;
+        Slot[] newSlots = new Slot[heap.length];
+        System.arraycopy(slots, 0, newSlots, 0, size);
+        slots = newSlots;
+    }
+
+    /**
+     * Holds the current position of an element in the heap.
+     */
+    private static class Slot {
+        private int position;
+    }
+}
@@ -0,0 +1,177 @@
+package datastructures;
+
+/**
+ * A hash map whose keys are primitive ints.
+ * The map is implemented with open addressing and linear probing over two parallel arrays, one of int keys and one of values.
+ * Keys are never boxed into Integer objects and there is no entry object per mapping,
+ * which makes lookups cheaper and the map several times smaller than a HashMap with Integer keys.
+ * The map automatically resizes itself when it becomes half full. Null values are not allowed.
+ *
+ * @param <V> the type of values held in this map.
+ */
+public class MyIntHashMap<V> {
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    /**
+     * Default constructor. Initializes an empty map with a capacity of 16.
+     */
+    public MyIntHashMap() {
+        this(8);
+    }
+
+    /**
+     * Constructor with size. Initializes an empty map able to hold the specified number of entries without resizing.
+     *
+     * @param expectedSize the number of entries expected.
+     */
+    public MyIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 4) * 2 - 1) << 1;
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return true if the map is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value associated with a key.
+     *
+     * @param key the key.
+     * @return the value, or null if the key is not in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int index = indexOf(key);
+        return values[index] == null ? null : (V) values[index];
+    }
+
+    /**
+     * Checks if a key is in the map.
+     *
+     * @param key the key.
+     * @return true if the key is in the map, false otherwise.
+     */
+    public boolean containsKey(int key) {
+        return values[indexOf(key)] != null;
+    }
+
+    /**
+     * Associates a value with a key, replacing the previous value if there was one.
+     *
+     * @param key the key.
+     * @param value the value, which cannot be null.
+     * @return the previous value, or null if the key was not in the map.
+     * @throws IllegalArgumentException if the value is null.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not allowed");
+        }
+        int index = indexOf(key);
+        V previous = (V) values[index];
+        if (previous == null) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+                index = indexOf(key);
+            }
+            keys[index] = key;
+            size++;
+        }
+        values[index] = value;
+        return previous;
+    }
+
+    /**
+     * Removes the entry of a key.
+     *
+     * @param key the key.
+     * @return the removed value, or null if the key was not in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int index = indexOf(key);
+        V previous = (V) values[index];
+        if (previous == null) {
+            return null;
+        }
+        // Desplaza hacia atrás las entradas siguientes para no dejar huecos en las secuencias de sondeo
+        int free = index;
+        int next = (free + 1) & mask;
+        while (values[next] != null) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[free] = null;
+        size--;
+        return previous;
+    }
+
+    /**
+     * Finds the slot of a key: the slot holding the key, or the empty slot where it would be inserted.
+     *
+     * @param key the key.
+     * @return the index of the slot.
+     */
+    private int indexOf(int key) {
+        int index = hash(key) & mask;
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Resizes the map to twice its current capacity.
+     */
+    private void resize() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads the bits of a key so that consecutive ids do not fill consecutive slots.
+     *
+     * @param key the key.
+     * @return the hash of the key.
+     */
+    private static int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
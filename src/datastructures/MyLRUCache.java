@@ -0,0 +1,47 @@
+package datastructures;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map with a maximum size that forgets its least recently used entry when it becomes full.
+ * The cache is implemented as a LinkedHashMap kept in access order.
+ *
+ * @param <K> the type of keys held in this cache.
+ * @param <V> the type of values held in this cache.
+ */
+public class MyLRUCache<K, V> extends LinkedHashMap<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    private final int maxSize;
+
+    /**
+     * Constructor with size. Initializes an empty cache holding at most the specified number of entries.
+     *
+     * @param maxSize the maximum number of entries of the cache.
+     */
+    public MyLRUCache(int maxSize) {
+        super(16, 0.75f, true);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the maximum number of entries of the cache.
+     *
+     * @return the maximum number of entries.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes the least recently used entry once the cache holds more than its maximum size.
+     *
+     * @param eldest the least recently used entry.
+     * @return true if the entry must be removed, false otherwise.
+     */
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+    }
+}
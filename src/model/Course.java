@@ -1,8 +1,13 @@
 package model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Represents a course in a school or university.
- * Each course has an id, title, discipline, number of hours, and number of groups.
+ * Each course has an id, title, discipline, number of hours, number of groups, and a list of prerequisites.
+ * A course assigned to a professor also holds the periods of the week in which each of its groups meets.
  */
 public class Course {
     private final String id;
@@ -10,9 +15,12 @@ public class Course {
     private final String discipline;
     private final int numberOfHours;
     private int numOfGroups;
+    private final List<String> prerequisites;
+    private final List<long[]> groupSlots;
 
     /**
      * Constructs a new Course with the specified id, title, discipline, number of hours, and number of groups.
+     * The course has no prerequisites.
      *
      * @param id the id of the course.
      * @param title the title of the course.
@@ -21,15 +29,32 @@ public class Course {
      * @param numOfGroups the number of groups in the course.
      */
     public Course(String id, String title, String discipline, int numberOfHours, int numOfGroups) {
+        this(id, title, discipline, numberOfHours, numOfGroups, List.of());
+    }
+
+    /**
+     * Constructs a new Course with the specified id, title, discipline, number of hours, number of groups, and prerequisites.
+     *
+     * @param id the id of the course.
+     * @param title the title of the course.
+     * @param discipline the discipline of the course.
+     * @param numberOfHours the number of hours of the course.
+     * @param numOfGroups the number of groups in the course.
+     * @param prerequisites the ids of the courses that must be taken before this course.
+     */
+    public Course(String id, String title, String discipline, int numberOfHours, int numOfGroups, List<String> prerequisites) {
         this.id = id;
         this.title = title;
         this.discipline = discipline;
         this.numberOfHours = numberOfHours;
         this.numOfGroups = numOfGroups;
+        this.prerequisites = List.copyOf(prerequisites);
+        this.groupSlots = new ArrayList<>();
     }
 
     /**
      * Constructs a new Course by copying the details from the specified course.
+     * The periods of the groups are not copied.
      *
      * @param course the course to copy.
      */
@@ -39,6 +64,8 @@ public class Course {
         this.discipline = course.discipline;
         this.numberOfHours = course.numberOfHours;
         this.numOfGroups = course.numOfGroups;
+        this.prerequisites = course.prerequisites;
+        this.groupSlots = new ArrayList<>();
     }
 
     /**
@@ -76,6 +103,15 @@ public class Course {
     public int getNumberOfHours() {
         return numberOfHours;
     }
+    /**
+     * Returns the ids of the courses that must be taken before this course.
+     *
+     * @return an unmodifiable list of the direct prerequisites of this course.
+     */
+    public List<String> getPrerequisites() {
+        return prerequisites;
+    }
+
     /**
      * Returns the number of groups in this course.
      *
@@ -103,6 +139,33 @@ public class Course {
         this.numOfGroups -=  numOfGroups;
     }
 
+    /**
+     * Increases the number of groups in this course by the specified amount.
+     *
+     * @param numOfGroups the amount to increase the number of groups by.
+     */
+    public void increaseNumOfGroups(int numOfGroups) {
+        this.numOfGroups += numOfGroups;
+    }
+
+    /**
+     * Records the periods of the week in which a group of this course meets.
+     *
+     * @param slots the periods of the group, one long per day, as found by Timetable.
+     */
+    public void addGroupSlots(long[] slots) {
+        groupSlots.add(slots);
+    }
+
+    /**
+     * Returns the periods of the week in which each group of this course meets, in the order the groups were placed.
+     *
+     * @return an unmodifiable list with the periods of each group.
+     */
+    public List<long[]> getGroupSlots() {
+        return Collections.unmodifiableList(groupSlots);
+    }
+
     /**
      * Returns the number of weekly hours for this course.
      * The number of weekly hours is determined by the total number of hours for the course.
@@ -5,49 +5,172 @@ import java.io.FileNotFoundException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import datastructures.MyBloomFilter;
+import datastructures.MyIntHashMap;
+import datastructures.MyLRUCache;
 
 /**
  * Represents a department in a school or university.
- * Each department has a map of courses and a list of professors.
+ * Each department has a map of courses and a list of professors, indexed by professor id.
+ * Requests for courses that do not exist are kept apart from the map of courses, in a bounded cache.
+ * The prerequisites of the courses are compiled into a graph when the map of courses is set.
  */
 public class Department {
+
+    /**
+     * The maximum number of unknown course ids remembered by the department.
+     */
+    public static final int MAX_REJECTED_COURSE_IDS = 256;
+
+    private static final String COURSES_FILE = "src/resources/courses_f22.txt";
+
     private HashMap<String, Course> courseMap;
     private ArrayList<Professor> listOfProfs;
+    private final MyIntHashMap<Professor> professorsById;
+    private MyBloomFilter<String> knownCourseIds;
+    private PrerequisiteGraph prerequisiteGraph;
+    private final MyLRUCache<String, Integer> rejectedCourseIds;
 
     /**
      * Constructs a new Department with the specified list of professors.
+     * The errors found in the courses file are printed.
      *
      * @param listOfProfs the list of professors in the department.
      */
     public Department(ArrayList<Professor> listOfProfs) {
+        this(listOfProfs, new ValidationReport(), true);
+    }
+
+    /**
+     * Constructs a new Department with the specified list of professors.
+     * The invalid lines of the courses file are skipped, and the unknown or cyclic prerequisites left out of the prerequisite graph;
+     * all of them are recorded in the specified report.
+     *
+     * @param listOfProfs the list of professors in the department.
+     * @param validationReport the report to which the errors in the courses file are added.
+     */
+    public Department(ArrayList<Professor> listOfProfs, ValidationReport validationReport) {
+        this(listOfProfs, validationReport, false);
+    }
+
+    /**
+     * Constructs a new Department with the specified list of professors.
+     *
+     * @param listOfProfs the list of professors in the department.
+     * @param validationReport the report to which the errors in the courses file are added.
+     * @param printErrors true to print the report if it has errors.
+     */
+    private Department(ArrayList<Professor> listOfProfs, ValidationReport validationReport, boolean printErrors) {
         this.listOfProfs = listOfProfs;
+        this.professorsById = new MyIntHashMap<>(listOfProfs.size());
+        for (Professor professor : listOfProfs) {
+            professorsById.put(professor.getId(), professor);
+        }
         this.courseMap = new HashMap<>();
+        this.rejectedCourseIds = new MyLRUCache<>(MAX_REJECTED_COURSE_IDS);
 
-        List<Course> courses = readCoursesFromFile("src/resources/courses_f22.txt");
+        List<Course> courses = readCoursesFromFile(COURSES_FILE, validationReport);
 
         HashMap<String, Course> courseMap = new HashMap<>();
         for (Course course : courses) {
             courseMap.put(course.getId(), course);
         }
         setCourseMap(courseMap);
+
+        // Los prerrequisitos descartados por el grafo son errores del archivo de cursos
+        for (Map.Entry<String, String> unknown : prerequisiteGraph.getUnknownPrerequisites()) {
+            validationReport.addError(COURSES_FILE, 0, "prerequisites",
+                    "course " + unknown.getKey() + " requires unknown course " + unknown.getValue() + ", ignored");
+        }
+        for (List<String> cycle : prerequisiteGraph.getCycles()) {
+            validationReport.addError(COURSES_FILE, 0, "prerequisites",
+                    "cyclic prerequisites between courses " + cycle + ", the prerequisites between them are ignored");
+        }
+        if (printErrors && validationReport.hasErrors()) {
+            validationReport.print();
+        }
     }
 
     /**
      * Returns the map of courses in this department.
+     * The map cannot be modified, so that the filter of known course ids stays in step with it; use setCourseMap to change the courses.
      *
-     * @return the map of courses in this department.
+     * @return an unmodifiable view of the map of courses in this department.
      */
-    public HashMap<String, Course> getCourseMap() {
-        return courseMap;
+    public Map<String, Course> getCourseMap() {
+        return Collections.unmodifiableMap(courseMap);
     }
 
     /**
      * Sets the map of courses in this department.
      *
+     * Unknown or cyclic prerequisites are left out of the prerequisite graph, which keeps them for the caller to report.
+     *
      * @param courseMap the new map of courses in this department.
      */
     public void setCourseMap(HashMap<String, Course> courseMap) {
+        this.prerequisiteGraph = new PrerequisiteGraph(courseMap.values());
         this.courseMap = courseMap;
+        this.knownCourseIds = new MyBloomFilter<>(courseMap.size(), 0.01);
+        for (String courseId : courseMap.keySet()) {
+            knownCourseIds.add(courseId);
+        }
+    }
+
+    /**
+     * Returns the prerequisite graph of the courses in this department.
+     *
+     * @return the prerequisite graph.
+     */
+    public PrerequisiteGraph getPrerequisiteGraph() {
+        return prerequisiteGraph;
+    }
+
+    /**
+     * Returns the course with the specified id.
+     * If the course does not exist, the id is recorded in the cache of rejected course ids
+     * and the map of courses is left unchanged.
+     *
+     * @param courseId the id of the course.
+     * @return the course, or null if the department has no course with this id.
+     */
+    public Course findCourse(String courseId) {
+        // El filtro descarta la mayoría de los cursos desconocidos sin consultar el mapa
+        Course course = knownCourseIds.mightContain(courseId) ? courseMap.get(courseId) : null;
+        if (course == null) {
+            recordRejectedCourseId(courseId, 1);
+        }
+        return course;
+    }
+
+    /**
+     * Records that a course id that does not exist was requested.
+     *
+     * @param courseId the id of the course.
+     * @param count the number of requests to add to the count of this id.
+     */
+    public void recordRejectedCourseId(String courseId, int count) {
+        rejectedCourseIds.merge(courseId, count, Integer::sum);
+    }
+
+    /**
+     * Removes one request from the count of a rejected course id, when the request is about to be made again.
+     * The id is forgotten once its count reaches zero.
+     *
+     * @param courseId the id of the course.
+     */
+    public void forgetRejectedCourseId(String courseId) {
+        rejectedCourseIds.computeIfPresent(courseId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Returns the most recently rejected course ids with the number of times each one was requested.
+     * At most {@link #MAX_REJECTED_COURSE_IDS} ids are kept, the least recently requested ones are forgotten first.
+     *
+     * @return the rejected course ids and their request counts, from least to most recently requested.
+     */
+    public Map<String, Integer> getRejectedCourseIds() {
+        return Collections.unmodifiableMap(rejectedCourseIds);
     }
 
     /**
@@ -59,28 +182,171 @@ public class Department {
         return listOfProfs;
     }
 
+    /**
+     * Returns the professor with the specified id.
+     *
+     * @param id the id of the professor.
+     * @return the professor, or null if the department has no professor with this id.
+     */
+    public Professor getProfessorById(int id) {
+        return professorsById.get(id);
+    }
+
+    /**
+     * Reads professors from a file and adds them to a list.
+     * The invalid lines are skipped and the errors are printed.
+     *
+     * @param filename the name of the file containing the professors
+     * @return the list of professors
+     */
+    public static ArrayList<Professor> readProfessorsFromFile(String filename) {
+        ValidationReport validationReport = new ValidationReport();
+        ArrayList<Professor> professors = readProfessorsFromFile(filename, validationReport);
+        if (validationReport.hasErrors()) {
+            validationReport.print();
+        }
+        return professors;
+    }
+
+    /**
+     * Reads professors from a file and adds them to a list.
+     * The invalid lines are skipped and recorded in the specified report; blank lines are ignored.
+     * A professor whose id was already read is a duplicate: the first one is kept and the line is reported.
+     *
+     * @param filename the name of the file containing the professors
+     * @param validationReport the report to which the errors are added
+     * @return the list of valid professors, with distinct ids
+     */
+    public static ArrayList<Professor> readProfessorsFromFile(String filename, ValidationReport validationReport) {
+        ArrayList<Professor> professors = new ArrayList<>();
+        MyIntHashMap<Integer> lineNumbersById = new MyIntHashMap<>();
+        try (Scanner scanner = new Scanner(new File(filename))) {
+            int lineNumber = 0;
+            while (scanner.hasNextLine()) {
+                String line = scanner.nextLine();
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                Professor professor = parseProfessor(line, filename, lineNumber, validationReport);
+                if (professor == null) {
+                    continue;
+                }
+                Integer firstLineNumber = lineNumbersById.get(professor.getId());
+                if (firstLineNumber != null) {
+                    validationReport.addError(filename, lineNumber, "id",
+                            "duplicate id " + professor.getId() + ", already used on line " + firstLineNumber + ", line ignored");
+                    continue;
+                }
+                lineNumbersById.put(professor.getId(), lineNumber);
+                professors.add(professor);
+            }
+        } catch (FileNotFoundException e) {
+            System.err.println("Error during file operation: " + filename);
+        }
+        return professors;
+    }
+
+    /**
+     * Parses a line from a file into a Professor object.
+     * Every field is checked, so that all the errors of the line are reported at once.
+     *
+     * @param line the line to be parsed
+     * @param filename the name of the file, for the error messages
+     * @param lineNumber the number of the line, for the error messages
+     * @param validationReport the report to which the errors are added
+     * @return the created Professor object, or null if the line is not valid
+     */
+    private static Professor parseProfessor(String line, String filename, int lineNumber, ValidationReport validationReport) {
+        validationReport.recordChecked();
+        String[] parts = line.split(":");
+        if (parts.length < 5) {
+            validationReport.addError(filename, lineNumber, "line", "expected 5 fields separated by ':' but found " + parts.length);
+            return null;
+        }
+        boolean valid = true;
+        long id = InputValidator.parseInt(parts[0]);
+        if (id == InputValidator.INVALID_INT) {
+            validationReport.addError(filename, lineNumber, "id", "not an integer: '" + parts[0] + "'");
+            valid = false;
+        }
+        String name = parts[1].trim();
+        if (name.isEmpty()) {
+            validationReport.addError(filename, lineNumber, "name", "empty");
+            valid = false;
+        }
+        double seniorityLevel = InputValidator.parseDecimal(parts[2]);
+        if (Double.isNaN(seniorityLevel)) {
+            validationReport.addError(filename, lineNumber, "seniorityLevel", "not a number: '" + parts[2] + "'");
+            valid = false;
+        }
+        if (!InputValidator.isValidDate(parts[3])) {
+            validationReport.addError(filename, lineNumber, "hiringDate", "not a dd-MM-yyyy date: '" + parts[3] + "'");
+            valid = false;
+        }
+        Set<String> myProfDisciplines = new HashSet<>();
+        for (String discipline : parts[4].split(",")) {
+            if (!discipline.isBlank()) {
+                myProfDisciplines.add(discipline.trim());
+            }
+        }
+        if (myProfDisciplines.isEmpty()) {
+            validationReport.addError(filename, lineNumber, "disciplines", "empty");
+            valid = false;
+        }
+        if (!valid) {
+            return null;
+        }
+        return new Professor((int) id, name, seniorityLevel, parseDate(parts[3].trim()), myProfDisciplines);
+    }
+
+    /**
+     * Parses a date string into a Date object.
+     *
+     * @param dateString the date string to be parsed
+     * @return the created Date object, or null if the date string could not be parsed
+     */
+    public static Date parseDate(String dateString) {
+        SimpleDateFormat format = new SimpleDateFormat("dd-MM-yyyy");
+        try {
+            return format.parse(dateString);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
     /**
      * Reads courses from a file and adds them to a list.
+     * The invalid lines are skipped and recorded in the specified report; blank lines are ignored.
+     * A course whose id was already read is a duplicate: the first one is kept and the line is reported.
      *
      * @param filename the name of the file containing the courses
-     * @return the list of courses
+     * @param validationReport the report to which the errors are added
+     * @return the list of valid courses, with distinct ids
      */
-    private static List<Course> readCoursesFromFile(String filename) {
+    public static List<Course> readCoursesFromFile(String filename, ValidationReport validationReport) {
         List<Course> courses = new ArrayList<>();
-        try {
-            File file = new File(filename);
-            Scanner scanner = new Scanner(file);
+        Map<String, Integer> lineNumbersById = new HashMap<>();
+        try (Scanner scanner = new Scanner(new File(filename))) {
+            int lineNumber = 0;
             while (scanner.hasNextLine()) {
                 String line = scanner.nextLine();
-                String[] parts = line.split(":");
-                if (parts.length == 6) {
-                    Course course = parseCourse(line);
-                    courses.add(course);
-                } else {
-                    System.out.println("Invalid line format: " + line);
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                Course course = parseCourse(line, filename, lineNumber, validationReport);
+                if (course == null) {
+                    continue;
                 }
+                Integer firstLineNumber = lineNumbersById.putIfAbsent(course.getId(), lineNumber);
+                if (firstLineNumber != null) {
+                    validationReport.addError(filename, lineNumber, "id",
+                            "duplicate id " + course.getId() + ", already used on line " + firstLineNumber + ", line ignored");
+                    continue;
+                }
+                courses.add(course);
             }
-            scanner.close();
         } catch (FileNotFoundException e) {
             //e.printStackTrace();
             System.err.println("Erro ao abrir o arquivo " + filename);
@@ -90,19 +356,54 @@ public class Department {
 
     /**
      * Parses a line from a file into a Course object.
+     * Every field is checked, so that all the errors of the line are reported at once.
      *
      * @param line the line to be parsed
-     * @return the created Course object
+     * @param filename the name of the file, for the error messages
+     * @param lineNumber the number of the line, for the error messages
+     * @param validationReport the report to which the errors are added
+     * @return the created Course object, or null if the line is not valid
      */
-    private static Course parseCourse(String line) {
+    private static Course parseCourse(String line, String filename, int lineNumber, ValidationReport validationReport) {
+        validationReport.recordChecked();
         String[] parts = line.split(":");
+        if (parts.length != 6) {
+            validationReport.addError(filename, lineNumber, "line", "expected 6 fields separated by ':' but found " + parts.length);
+            return null;
+        }
+        boolean valid = true;
         String id = parts[0].trim();
+        if (id.isEmpty()) {
+            validationReport.addError(filename, lineNumber, "id", "empty");
+            valid = false;
+        }
         String title = parts[1].trim();
         String discipline = parts[2].trim();
-        int numberOfHours = Integer.parseInt(parts[3].trim());
-        //String[] listPrerequisites = parts[4].trim().split(",");
-        int numOfGroups = Integer.parseInt(parts[5].trim());
-        return new Course(id, title, discipline, numberOfHours,numOfGroups);
+        if (discipline.isEmpty()) {
+            validationReport.addError(filename, lineNumber, "discipline", "empty");
+            valid = false;
+        }
+        long numberOfHours = InputValidator.parseInt(parts[3]);
+        if (numberOfHours != 45 && numberOfHours != 60 && numberOfHours != 75 && numberOfHours != 90) {
+            validationReport.addError(filename, lineNumber, "numberOfHours", "expected 45, 60, 75 or 90 but found '" + parts[3].trim() + "'");
+            valid = false;
+        }
+        List<String> prerequisites = new ArrayList<>();
+        for (String prerequisite : parts[4].split(",")) {
+            // "none" indica que el curso no tiene prerrequisitos
+            if (!prerequisite.isBlank() && !prerequisite.trim().equalsIgnoreCase("none")) {
+                prerequisites.add(prerequisite.trim());
+            }
+        }
+        long numOfGroups = InputValidator.parseInt(parts[5]);
+        if (numOfGroups == InputValidator.INVALID_INT || numOfGroups < 0) {
+            validationReport.addError(filename, lineNumber, "numOfGroups", "not a non-negative integer: '" + parts[5].trim() + "'");
+            valid = false;
+        }
+        if (!valid) {
+            return null;
+        }
+        return new Course(id, title, discipline, (int) numberOfHours, (int) numOfGroups, prerequisites);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package model;
+
+/**
+ * Parses the values of the input files without throwing exceptions.
+ * Each method scans its text once and returns a marker value when the text is not valid,
+ * so that a dirty input costs no more than a clean one.
+ */
+public class InputValidator {
+
+    /**
+     * The value returned by parseInt when the text is not a valid int.
+     */
+    public static final long INVALID_INT = Long.MIN_VALUE;
+
+    private static final int[] DAYS_IN_MONTH = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private InputValidator() {
+    }
+
+    /**
+     * Parses a decimal int, with an optional sign, ignoring surrounding spaces.
+     *
+     * @param text the text to parse.
+     * @return the value, or INVALID_INT if the text is not an int.
+     */
+    public static long parseInt(String text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        boolean negative = false;
+        if (start < end && (text.charAt(start) == '-' || text.charAt(start) == '+')) {
+            negative = text.charAt(start) == '-';
+            start++;
+        }
+        if (start == end || end - start > 10) {
+            return INVALID_INT;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID_INT;
+            }
+            value = value * 10 + (c - '0');
+        }
+        value = negative ? -value : value;
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? INVALID_INT : value;
+    }
+
+    /**
+     * Parses a non-negative decimal number such as "3.17", ignoring surrounding spaces.
+     *
+     * @param text the text to parse.
+     * @return the value, or NaN if the text is not a number.
+     */
+    public static double parseDecimal(String text) {
+        String trimmed = text.trim();
+        boolean digit = false;
+        boolean point = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                return Double.NaN;
+            }
+        }
+        // Solo se llama a Double.parseDouble con un texto que ya sabemos válido
+        return digit ? Double.parseDouble(trimmed) : Double.NaN;
+    }
+
+    /**
+     * Checks if a text is a valid date in the dd-MM-yyyy format, where the day and month may have one digit.
+     *
+     * @param text the text to check.
+     * @return true if the text is a date that exists, false otherwise.
+     */
+    public static boolean isValidDate(String text) {
+        String[] parts = text.trim().split("-", -1);
+        if (parts.length != 3 || parts[0].length() > 2 || parts[1].length() > 2 || parts[2].length() != 4) {
+            return false;
+        }
+        long day = parseInt(parts[0]);
+        long month = parseInt(parts[1]);
+        long year = parseInt(parts[2]);
+        if (day == INVALID_INT || month == INVALID_INT || year == INVALID_INT || month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        boolean leapYear = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+        int maxDay = month == 2 && !leapYear ? 28 : DAYS_IN_MONTH[(int) month - 1];
+        return day <= maxDay;
+    }
+}
@@ -0,0 +1,315 @@
+package model;
+
+import java.util.*;
+
+/**
+ * Represents the prerequisites between the courses of a department as a directed acyclic graph.
+ * The graph is compiled once: every course gets an index, a topological order is computed and,
+ * for every course, the sets of its transitive prerequisites and of its downstream courses are stored as bitsets.
+ * A prerequisite query then reads a single bit, and listing the downstream courses scans one row of words.
+ * Prerequisites that are not among the courses, and prerequisites between courses on a cycle, are left out of the graph
+ * and kept apart so that the caller can report them.
+ */
+public class PrerequisiteGraph {
+    private final String[] courseIds;
+    private final HashMap<String, Integer> indexOf;
+    private final int[] topologicalOrder;
+    private final long[][] ancestors;
+    private final long[][] descendants;
+    private final List<Map.Entry<String, String>> unknownPrerequisites;
+    private final List<List<String>> cycles;
+
+    /**
+     * Constructs the prerequisite graph of the specified courses.
+     * Prerequisites that are not among the courses are ignored, and so are the prerequisites between the courses of a cycle;
+     * both are available from {@link #getUnknownPrerequisites()} and {@link #getCycles()}.
+     *
+     * @param courses the courses of the department.
+     */
+    public PrerequisiteGraph(Collection<Course> courses) {
+        int n = courses.size();
+        this.courseIds = new String[n];
+        this.indexOf = new HashMap<>();
+        this.unknownPrerequisites = new ArrayList<>();
+        this.cycles = new ArrayList<>();
+        for (Course course : courses) {
+            indexOf.put(course.getId(), indexOf.size());
+            courseIds[indexOf.size() - 1] = course.getId();
+        }
+
+        // Lista de adyacencia: de cada prerrequisito hacia los cursos que lo necesitan
+        List<List<Integer>> dependents = new ArrayList<>();
+        List<List<Integer>> prerequisites = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            dependents.add(new ArrayList<>());
+            prerequisites.add(new ArrayList<>());
+        }
+        for (Course course : courses) {
+            int to = indexOf.get(course.getId());
+            for (String prerequisiteId : course.getPrerequisites()) {
+                Integer from = indexOf.get(prerequisiteId);
+                if (from == null) {
+                    unknownPrerequisites.add(Map.entry(course.getId(), prerequisiteId));
+                    continue;
+                }
+                dependents.get(from).add(to);
+                prerequisites.get(to).add(from);
+            }
+        }
+
+        int[] order = sortTopologically(dependents, prerequisites);
+        if (order.length < n) {
+            // Quita las aristas dentro de cada ciclo; los cursos que solo dependen de un ciclo conservan las suyas
+            int[] component = findCycles(dependents, prerequisites, order);
+            for (int i = 0; i < n; i++) {
+                int course = i;
+                dependents.get(i).removeIf(dependent -> component[dependent] >= 0 && component[dependent] == component[course]);
+                prerequisites.get(i).removeIf(prerequisite -> component[prerequisite] >= 0 && component[prerequisite] == component[course]);
+            }
+            order = sortTopologically(dependents, prerequisites);
+        }
+        this.topologicalOrder = order;
+
+        int words = (n + 63) >>> 6;
+        this.ancestors = new long[n][words];
+        this.descendants = new long[n][words];
+        for (int course : topologicalOrder) {
+            for (int prerequisite : prerequisites.get(course)) {
+                or(ancestors[course], ancestors[prerequisite]);
+                ancestors[course][prerequisite >>> 6] |= 1L << prerequisite;
+            }
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            int course = topologicalOrder[i];
+            for (int dependent : dependents.get(course)) {
+                or(descendants[course], descendants[dependent]);
+                descendants[course][dependent >>> 6] |= 1L << dependent;
+            }
+        }
+    }
+
+    /**
+     * Checks if a course is a direct or transitive prerequisite of another course.
+     *
+     * @param prerequisiteId the id of the possible prerequisite.
+     * @param courseId the id of the course.
+     * @return true if the first course must be taken, directly or not, before the second one.
+     */
+    public boolean isPrerequisite(String prerequisiteId, String courseId) {
+        Integer prerequisite = indexOf.get(prerequisiteId);
+        Integer course = indexOf.get(courseId);
+        if (prerequisite == null || course == null) {
+            return false;
+        }
+        return (ancestors[course][prerequisite >>> 6] & (1L << prerequisite)) != 0;
+    }
+
+    /**
+     * Returns the ids of all the direct and transitive prerequisites of a course.
+     *
+     * @param courseId the id of the course.
+     * @return the prerequisites of the course, in no particular order.
+     */
+    public List<String> getAllPrerequisites(String courseId) {
+        Integer course = indexOf.get(courseId);
+        return course == null ? List.of() : toCourseIds(ancestors[course]);
+    }
+
+    /**
+     * Returns the ids of all the courses that need a course, directly or transitively.
+     *
+     * @param courseId the id of the course.
+     * @return the downstream courses of the course, in no particular order.
+     */
+    public List<String> getDownstreamCourses(String courseId) {
+        Integer course = indexOf.get(courseId);
+        return course == null ? List.of() : toCourseIds(descendants[course]);
+    }
+
+    /**
+     * Returns the ids of the courses in an order where every course comes after its prerequisites.
+     *
+     * @return the courses in topological order.
+     */
+    public List<String> getTopologicalOrder() {
+        List<String> order = new ArrayList<>(topologicalOrder.length);
+        for (int course : topologicalOrder) {
+            order.add(courseIds[course]);
+        }
+        return order;
+    }
+
+    /**
+     * Returns the prerequisites that are not among the courses of the graph.
+     *
+     * @return the pairs of a course id and the id of its unknown prerequisite, in the order of the courses.
+     */
+    public List<Map.Entry<String, String>> getUnknownPrerequisites() {
+        return Collections.unmodifiableList(unknownPrerequisites);
+    }
+
+    /**
+     * Returns the cycles found among the prerequisites. Each cycle lists only the courses on it,
+     * not the courses that depend on it; the prerequisites between the courses of a cycle are not part of the graph.
+     *
+     * @return the ids of the courses of each cycle.
+     */
+    public List<List<String>> getCycles() {
+        return Collections.unmodifiableList(cycles);
+    }
+
+    /**
+     * Returns the number of courses in the graph.
+     *
+     * @return the number of courses.
+     */
+    public int size() {
+        return courseIds.length;
+    }
+
+    /**
+     * Sorts the courses with Kahn's algorithm.
+     *
+     * @param dependents for each course, the courses that need it.
+     * @param prerequisites for each course, the courses it needs.
+     * @return the indices of the courses in topological order; the courses on a cycle, or depending on one, are missing.
+     */
+    private static int[] sortTopologically(List<List<Integer>> dependents, List<List<Integer>> prerequisites) {
+        int n = dependents.size();
+        int[] inDegree = new int[n];
+        for (int i = 0; i < n; i++) {
+            inDegree[i] = prerequisites.get(i).size();
+        }
+        int[] order = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int course = order[head++];
+            for (int dependent : dependents.get(course)) {
+                if (--inDegree[dependent] == 0) {
+                    order[tail++] = dependent;
+                }
+            }
+        }
+        return Arrays.copyOf(order, tail);
+    }
+
+    /**
+     * Finds the cycles among the courses left out of a topological order, with Kosaraju's algorithm:
+     * the strongly connected components of two or more courses, or of one course that needs itself, are the cycles.
+     * Each cycle found is added to the list of cycles.
+     *
+     * @param dependents for each course, the courses that need it.
+     * @param prerequisites for each course, the courses it needs.
+     * @param order the courses that could be sorted.
+     * @return for each course, the index of its cycle, or -1 if it is not on a cycle.
+     */
+    private int[] findCycles(List<List<Integer>> dependents, List<List<Integer>> prerequisites, int[] order) {
+        int n = dependents.size();
+        boolean[] sorted = new boolean[n];
+        for (int course : order) {
+            sorted[course] = true;
+        }
+
+        // Primera pasada: orden de finalización de un recorrido en profundidad hacia los dependientes
+        int[] finished = new int[n];
+        int numOfFinished = 0;
+        boolean[] visited = sorted.clone();
+        int[] next = new int[n];
+        int[] stack = new int[n];
+        for (int start = 0; start < n; start++) {
+            if (visited[start]) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = start;
+            visited[start] = true;
+            while (top > 0) {
+                int course = stack[top - 1];
+                List<Integer> edges = dependents.get(course);
+                if (next[course] < edges.size()) {
+                    int dependent = edges.get(next[course]++);
+                    if (!visited[dependent]) {
+                        visited[dependent] = true;
+                        stack[top++] = dependent;
+                    }
+                } else {
+                    finished[numOfFinished++] = course;
+                    top--;
+                }
+            }
+        }
+
+        // Segunda pasada: cada recorrido hacia los prerrequisitos, en orden inverso, recoge una componente
+        int[] component = new int[n];
+        Arrays.fill(component, -1);
+        boolean[] collected = sorted.clone();
+        int[] members = new int[n];
+        for (int i = numOfFinished - 1; i >= 0; i--) {
+            int root = finished[i];
+            if (collected[root]) {
+                continue;
+            }
+            int numOfMembers = 0;
+            int top = 0;
+            stack[top++] = root;
+            collected[root] = true;
+            while (top > 0) {
+                int course = stack[--top];
+                members[numOfMembers++] = course;
+                for (int prerequisite : prerequisites.get(course)) {
+                    if (!collected[prerequisite]) {
+                        collected[prerequisite] = true;
+                        stack[top++] = prerequisite;
+                    }
+                }
+            }
+            // Un curso solo, sin ser su propio prerrequisito, no está en un ciclo: solo depende de uno
+            if (numOfMembers > 1 || prerequisites.get(root).contains(root)) {
+                Arrays.sort(members, 0, numOfMembers);
+                List<String> cycle = new ArrayList<>(numOfMembers);
+                for (int j = 0; j < numOfMembers; j++) {
+                    component[members[j]] = cycles.size();
+                    cycle.add(courseIds[members[j]]);
+                }
+                cycles.add(cycle);
+            }
+        }
+        return component;
+    }
+
+    /**
+     * Converts a bitset of course indices into the list of the corresponding ids.
+     *
+     * @param set the bitset.
+     * @return the ids of the courses whose bit is set.
+     */
+    private List<String> toCourseIds(long[] set) {
+        List<String> ids = new ArrayList<>();
+        for (int word = 0; word < set.length; word++) {
+            long bits = set[word];
+            while (bits != 0) {
+                ids.add(courseIds[(word << 6) + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Adds all the bits of a bitset to another one.
+     *
+     * @param target the bitset receiving the bits.
+     * @param source the bitset whose bits are added.
+     */
+    private static void or(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= source[i];
+        }
+    }
+}
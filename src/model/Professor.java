@@ -6,7 +6,8 @@ import java.util.Set;
 
 /**
  * Represents a professor in a school or university.
- * Each professor has an id, name, seniority level, hiring date, set of disciplines they can teach, and a list of courses they are assigned to.
+ * Each professor has an id, name, seniority level, hiring date, set of disciplines they can teach, a list of courses they are assigned to,
+ * and the weekly schedule occupied by the groups of these courses.
  */
 public class Professor implements Comparable<Professor>  {
 
@@ -16,6 +17,7 @@ public class Professor implements Comparable<Professor>  {
     private final Date hiringDate;
     private final Set<String> setOfDisciplines;
     private ArrayList<Course> listOfAffectedCourses;
+    private long[] occupiedSlots;
 
     /**
      * Constructs a new Professor with the specified id, name, seniority level, hiring date, and set of disciplines.
@@ -32,6 +34,7 @@ public class Professor implements Comparable<Professor>  {
         this.seniorityLevel = seniorityLevel;
         this.hiringDate = hiringDate;
         this.setOfDisciplines = setOfDisciplines;
+        this.occupiedSlots = Timetable.emptySchedule();
     }
 
     // Getters and setters for the professor's id, name, seniority level, hiring date, set of disciplines, and list of assigned courses.
@@ -123,6 +126,24 @@ public class Professor implements Comparable<Professor>  {
         this.listOfAffectedCourses = listOfAffectedCourses;
     }
 
+    /**
+     * Returns the weekly schedule occupied by the groups assigned to the professor.
+     * The returned schedule is updated in place when a group is scheduled.
+     *
+     * @return the occupied periods, one long per day.
+     * @see Timetable
+     */
+    public long[] getOccupiedSlots() {
+        return occupiedSlots;
+    }
+
+    /**
+     * Frees the whole weekly schedule of the professor.
+     */
+    public void clearOccupiedSlots() {
+        this.occupiedSlots = Timetable.emptySchedule();
+    }
+
     /**
      * Returns a string representation of this professor.
      *
@@ -0,0 +1,117 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents the parsed content of a professor's selection file.
+ * Each selection has the id of the professor and the ordered list of courses they requested.
+ */
+public class ProfessorSelection {
+    private final int professorId;
+    private final List<CourseRequest> courseRequests;
+
+    /**
+     * Constructs a new ProfessorSelection with the specified professor id and course requests.
+     *
+     * @param professorId the id of the professor who made the selection.
+     * @param courseRequests the course requests, in the order they appear in the file.
+     */
+    public ProfessorSelection(int professorId, List<CourseRequest> courseRequests) {
+        this.professorId = professorId;
+        this.courseRequests = List.copyOf(courseRequests);
+    }
+
+    /**
+     * Returns an empty selection for the specified professor.
+     *
+     * @param professorId the id of the professor.
+     * @return a selection without any course request.
+     */
+    public static ProfessorSelection empty(int professorId) {
+        return new ProfessorSelection(professorId, new ArrayList<>());
+    }
+
+    /**
+     * Returns the id of the professor who made this selection.
+     *
+     * @return the id of the professor.
+     */
+    public int getProfessorId() {
+        return professorId;
+    }
+
+    /**
+     * Returns the course requests of this selection, in file order.
+     *
+     * @return an unmodifiable list of course requests.
+     */
+    public List<CourseRequest> getCourseRequests() {
+        return courseRequests;
+    }
+
+    /**
+     * Returns the ids of all the courses requested in this selection.
+     *
+     * @return the set of requested course ids.
+     */
+    public Set<String> getCourseIds() {
+        Set<String> courseIds = new HashSet<>();
+        for (CourseRequest request : courseRequests) {
+            courseIds.add(request.getCourseId());
+        }
+        return courseIds;
+    }
+
+    /**
+     * Represents one line of a selection file: a course and the number of groups requested.
+     * The total weekly hours in effect when the line was read are kept with the request.
+     */
+    public static class CourseRequest {
+        private final String courseId;
+        private final int requestedGroups;
+        private final int totalHours;
+
+        /**
+         * Constructs a new CourseRequest.
+         *
+         * @param courseId the id of the requested course.
+         * @param requestedGroups the number of groups the professor wishes to teach.
+         * @param totalHours the total weekly hours the professor can work.
+         */
+        public CourseRequest(String courseId, int requestedGroups, int totalHours) {
+            this.courseId = courseId;
+            this.requestedGroups = requestedGroups;
+            this.totalHours = totalHours;
+        }
+
+        /**
+         * Returns the id of the requested course.
+         *
+         * @return the id of the requested course.
+         */
+        public String getCourseId() {
+            return courseId;
+        }
+
+        /**
+         * Returns the number of groups the professor wishes to teach.
+         *
+         * @return the number of requested groups.
+         */
+        public int getRequestedGroups() {
+            return requestedGroups;
+        }
+
+        /**
+         * Returns the total weekly hours the professor can work.
+         *
+         * @return the total weekly hours.
+         */
+        public int getTotalHours() {
+            return totalHours;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package model;
+
+/**
+ * Represents the weekly grid on which course groups are scheduled.
+ * The week has 5 days of 12 one-hour periods, from 8:00 to 20:00.
+ * A schedule is a bitset with one long per day, where bit p is set when the period starting at 8:00 + p hours is occupied,
+ * so looking for free hours in a day is a word-level bit operation.
+ * A group meets in blocks of at most 3 consecutive hours, each block on a different day, with at least one free hour
+ * between two blocks of the same professor.
+ * The input files give no meeting times: the timetable only allocates periods to the groups it places, in the free periods
+ * of the professor. Groups placed this way never overlap, but there is no given schedule whose overlaps could be detected.
+ */
+public class Timetable {
+
+    /**
+     * The number of days in the week.
+     */
+    public static final int DAYS = 5;
+
+    /**
+     * The number of one-hour periods in a day.
+     */
+    public static final int PERIODS_PER_DAY = 12;
+
+    /**
+     * The hour at which the first period of the day starts.
+     */
+    public static final int FIRST_HOUR = 8;
+
+    /**
+     * The maximum number of consecutive hours a group meets on the same day.
+     */
+    public static final int MAX_BLOCK_HOURS = 3;
+
+    private static final String[] DAY_NAMES = {"Mon", "Tue", "Wed", "Thu", "Fri"};
+    private static final long DAY_MASK = (1L << PERIODS_PER_DAY) - 1;
+
+    private Timetable() {
+    }
+
+    /**
+     * Returns a schedule without any occupied period.
+     *
+     * @return an empty schedule.
+     */
+    public static long[] emptySchedule() {
+        return new long[DAYS];
+    }
+
+    /**
+     * Marks the periods of a schedule as occupied in another schedule.
+     *
+     * @param occupied the schedule to update.
+     * @param slots the periods to mark.
+     */
+    public static void occupy(long[] occupied, long[] slots) {
+        for (int day = 0; day < DAYS; day++) {
+            occupied[day] |= slots[day];
+        }
+    }
+
+    /**
+     * Finds free periods for a group of a course in an occupied schedule.
+     * The weekly hours are split in blocks as even as possible of at most MAX_BLOCK_HOURS, each on a different day.
+     * Each block goes on the least occupied day where it fits, at the earliest hour leaving one free hour before and after it,
+     * so that the groups are spread over the week and no professor teaches more than MAX_BLOCK_HOURS hours in a row.
+     *
+     * @param occupied the schedule of the professor.
+     * @param weeklyHours the number of weekly hours of the course.
+     * @return the periods of the group, or null if the group does not fit in the free periods.
+     */
+    public static long[] findGroupSlots(long[] occupied, int weeklyHours) {
+        if (weeklyHours <= 0) {
+            return null;
+        }
+        int numOfBlocks = (weeklyHours + MAX_BLOCK_HOURS - 1) / MAX_BLOCK_HOURS;
+        if (numOfBlocks > DAYS) {
+            return null;
+        }
+        long[] slots = emptySchedule();
+        for (int block = 0; block < numOfBlocks; block++) {
+            // Los primeros bloques reciben la hora sobrante: 5 horas dan 3 + 2
+            int length = weeklyHours / numOfBlocks + (block < weeklyHours % numOfBlocks ? 1 : 0);
+            int bestDay = -1;
+            int bestStart = -1;
+            for (int day = 0; day < DAYS; day++) {
+                if (slots[day] != 0) {
+                    continue;
+                }
+                int start = findFreeRun(occupied[day], length);
+                if (start >= 0 && (bestDay < 0 || Long.bitCount(occupied[day]) < Long.bitCount(occupied[bestDay]))) {
+                    bestDay = day;
+                    bestStart = start;
+                }
+            }
+            if (bestDay < 0) {
+                return null;
+            }
+            slots[bestDay] = ((1L << length) - 1) << bestStart;
+        }
+        return slots;
+    }
+
+    /**
+     * Returns a readable description of a schedule, for example "Mon 8-11, Wed 8-10".
+     *
+     * @param slots the schedule.
+     * @return the description of the occupied periods.
+     */
+    public static String describe(long[] slots) {
+        StringBuilder description = new StringBuilder();
+        for (int day = 0; day < DAYS; day++) {
+            long bits = slots[day];
+            while (bits != 0) {
+                int start = Long.numberOfTrailingZeros(bits);
+                int end = start + Long.numberOfTrailingZeros(~(bits >>> start));
+                if (description.length() > 0) {
+                    description.append(", ");
+                }
+                description.append(DAY_NAMES[day]).append(' ').append(FIRST_HOUR + start).append('-').append(FIRST_HOUR + end);
+                bits &= -1L << end;
+            }
+        }
+        return description.toString();
+    }
+
+    /**
+     * Finds the first run of consecutive free periods in a day that is not next to an occupied period.
+     *
+     * @param occupiedDay the occupied periods of the day.
+     * @param length the number of consecutive periods needed.
+     * @return the first period of the run, or -1 if there is none.
+     */
+    private static int findFreeRun(long occupiedDay, int length) {
+        // Las horas contiguas a un bloque ocupado también se descartan, para dejar una pausa entre bloques
+        long free = ~(occupiedDay | occupiedDay << 1 | occupiedDay >>> 1) & DAY_MASK;
+        long starts = free;
+        for (int i = 1; i < length; i++) {
+            starts &= free >>> i;
+        }
+        return starts == 0 ? -1 : Long.numberOfTrailingZeros(starts);
+    }
+}
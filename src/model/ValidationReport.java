@@ -0,0 +1,185 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the errors found while validating input records.
+ * Each error has the file, the line, the field and the reason. Only the first errors are kept, up to a maximum,
+ * so that a very dirty input cannot fill the memory; the others are only counted.
+ */
+public class ValidationReport {
+
+    /**
+     * The default maximum number of errors kept by a report.
+     */
+    public static final int DEFAULT_MAX_ERRORS = 100;
+
+    private final int maxErrors;
+    private final List<ValidationError> errors;
+    private int numOfErrors;
+    private int numOfRecords;
+
+    /**
+     * Default constructor. Initializes an empty report keeping at most DEFAULT_MAX_ERRORS errors.
+     */
+    public ValidationReport() {
+        this(DEFAULT_MAX_ERRORS);
+    }
+
+    /**
+     * Constructor with size. Initializes an empty report keeping at most the specified number of errors.
+     *
+     * @param maxErrors the maximum number of errors kept.
+     */
+    public ValidationReport(int maxErrors) {
+        this.maxErrors = maxErrors;
+        this.errors = new ArrayList<>();
+    }
+
+    /**
+     * Records that a record was checked.
+     */
+    public void recordChecked() {
+        numOfRecords++;
+    }
+
+    /**
+     * Records an error. The error is kept only if the report is not full.
+     *
+     * @param file the name of the file.
+     * @param line the number of the line, starting at 1, or 0 if the error is not about a single line.
+     * @param field the name of the field in error.
+     * @param reason why the field is not valid.
+     */
+    public void addError(String file, int line, String field, String reason) {
+        numOfErrors++;
+        if (errors.size() < maxErrors) {
+            errors.add(new ValidationError(file, line, field, reason));
+        }
+    }
+
+    /**
+     * Checks if an error was found.
+     *
+     * @return true if at least one error was recorded, false otherwise.
+     */
+    public boolean hasErrors() {
+        return numOfErrors > 0;
+    }
+
+    /**
+     * Returns the errors kept by the report, in the order they were found.
+     *
+     * @return an unmodifiable list of errors.
+     */
+    public List<ValidationError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Returns the number of errors found, including those that were not kept.
+     *
+     * @return the number of errors.
+     */
+    public int getNumOfErrors() {
+        return numOfErrors;
+    }
+
+    /**
+     * Returns the number of records checked.
+     *
+     * @return the number of records.
+     */
+    public int getNumOfRecords() {
+        return numOfRecords;
+    }
+
+    /**
+     * Prints the number of records and errors, and the errors kept.
+     */
+    public void print() {
+        System.out.println("\nInput Validation:");
+        System.out.println("-----------------");
+        System.out.println(" Records: " + numOfRecords + ", Errors: " + numOfErrors);
+        for (ValidationError error : errors) {
+            System.out.println(" " + error);
+        }
+        if (numOfErrors > errors.size()) {
+            System.out.println(" ... " + (numOfErrors - errors.size()) + " more error(s) not shown");
+        }
+    }
+
+    /**
+     * Represents an error in a field of an input record.
+     */
+    public static class ValidationError {
+        private final String file;
+        private final int line;
+        private final String field;
+        private final String reason;
+
+        /**
+         * Constructs a new ValidationError.
+         *
+         * @param file the name of the file.
+         * @param line the number of the line, starting at 1.
+         * @param field the name of the field in error.
+         * @param reason why the field is not valid.
+         */
+        public ValidationError(String file, int line, String field, String reason) {
+            this.file = file;
+            this.line = line;
+            this.field = field;
+            this.reason = reason;
+        }
+
+        /**
+         * Returns the name of the file.
+         *
+         * @return the name of the file.
+         */
+        public String getFile() {
+            return file;
+        }
+
+        /**
+         * Returns the number of the line.
+         *
+         * @return the number of the line.
+         */
+        public int getLine() {
+            return line;
+        }
+
+        /**
+         * Returns the name of the field in error.
+         *
+         * @return the name of the field.
+         */
+        public String getField() {
+            return field;
+        }
+
+        /**
+         * Returns why the field is not valid.
+         *
+         * @return the reason of the error.
+         */
+        public String getReason() {
+            return reason;
+        }
+
+        /**
+         * Returns a string representation of this error, such as "profs.txt:3: hiringDate: not a date",
+         * without the line number if the error is not about a single line.
+         *
+         * @return a string representation of this error.
+         */
+        @Override
+        public String toString() {
+            return file + (line > 0 ? ":" + line : "") + ": " + field + ": " + reason;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package service;
+
+import java.util.*;
+import model.Department;
+import model.Professor;
+
+/**
+ * Represents the changes between two assignments: the groups added to, removed from or changed for each professor,
+ * and the changes in the groups left in each course.
+ * Professors whose hash did not change are skipped without comparing their groups,
+ * so the work done beyond the hash comparison, and the output, grow with the number of changes.
+ */
+public class AssignmentDiff {
+    private final List<String> professorChanges;
+    private final List<String> courseChanges;
+    private final int numOfProfsChanged;
+
+    /**
+     * Computes the changes from a previous assignment to the current one.
+     *
+     * @param previous the snapshot of the previous run
+     * @param current the snapshot of this run
+     * @param department the department, used to name the professors
+     */
+    public AssignmentDiff(AssignmentSnapshot previous, AssignmentSnapshot current, Department department) {
+        this.professorChanges = new ArrayList<>();
+        this.courseChanges = new ArrayList<>();
+        int changed = 0;
+
+        SortedMap<Integer, AssignmentSnapshot.ProfessorEntry> before = previous.getProfessors();
+        SortedMap<Integer, AssignmentSnapshot.ProfessorEntry> after = current.getProfessors();
+        TreeSet<Integer> professorIds = new TreeSet<>(before.keySet());
+        professorIds.addAll(after.keySet());
+        for (int professorId : professorIds) {
+            AssignmentSnapshot.ProfessorEntry oldEntry = before.get(professorId);
+            AssignmentSnapshot.ProfessorEntry newEntry = after.get(professorId);
+            if (oldEntry != null && newEntry != null && oldEntry.getHash() == newEntry.getHash()) {
+                continue;
+            }
+            List<String> lines = new ArrayList<>();
+            SortedMap<String, Integer> oldGroups = oldEntry == null ? Collections.emptySortedMap() : oldEntry.getGroups();
+            SortedMap<String, Integer> newGroups = newEntry == null ? Collections.emptySortedMap() : newEntry.getGroups();
+            compare(oldGroups, newGroups, lines, "  + %s, Groups: %d", "  - %s, Groups: %d", "  ~ %s, Groups: %d -> %d");
+            if (lines.isEmpty() && (oldEntry == null) == (newEntry == null)) {
+                continue;
+            }
+            changed++;
+            Professor professor = department.getProfessorById(professorId);
+            String name = professor == null ? "" : " - " + professor.getName();
+            String status = oldEntry == null ? " (new)" : newEntry == null ? " (removed)" : "";
+            professorChanges.add("Professor: " + professorId + name + status);
+            professorChanges.addAll(lines);
+        }
+        this.numOfProfsChanged = changed;
+
+        compare(previous.getRemainingGroups(), current.getRemainingGroups(), courseChanges,
+                " + Course: %s, Available Groups: %d", " - Course: %s, Available Groups: %d", " ~ Course: %s, Available Groups: %d -> %d");
+    }
+
+    /**
+     * Returns true if the two assignments are the same.
+     *
+     * @return true if nothing changed, false otherwise
+     */
+    public boolean isEmpty() {
+        return professorChanges.isEmpty() && courseChanges.isEmpty();
+    }
+
+    /**
+     * Prints only the changes.
+     */
+    public void print() {
+        System.out.println("\nAssignment Changes:");
+        System.out.println("-------------------");
+        if (isEmpty()) {
+            System.out.println(" No changes.");
+            return;
+        }
+        for (String line : courseChanges) {
+            System.out.println(line);
+        }
+        for (String line : professorChanges) {
+            System.out.println(line);
+        }
+        System.out.printf(" %d professor(s) and %d course(s) changed.%n", numOfProfsChanged, courseChanges.size());
+    }
+
+    /**
+     * Compares two sorted maps of counts in one merge pass and formats an added, removed or changed line for each difference.
+     *
+     * @param before the counts before
+     * @param after the counts after
+     * @param lines the list to which the formatted lines are added
+     * @param addedFormat the format of an added key and its count
+     * @param removedFormat the format of a removed key and its count
+     * @param changedFormat the format of a key whose count changed, with the old and new counts
+     */
+    private static void compare(SortedMap<String, Integer> before, SortedMap<String, Integer> after, List<String> lines,
+                                String addedFormat, String removedFormat, String changedFormat) {
+        Iterator<Map.Entry<String, Integer>> oldEntries = before.entrySet().iterator();
+        Iterator<Map.Entry<String, Integer>> newEntries = after.entrySet().iterator();
+        Map.Entry<String, Integer> oldEntry = oldEntries.hasNext() ? oldEntries.next() : null;
+        Map.Entry<String, Integer> newEntry = newEntries.hasNext() ? newEntries.next() : null;
+        while (oldEntry != null || newEntry != null) {
+            int order = oldEntry == null ? 1 : newEntry == null ? -1 : oldEntry.getKey().compareTo(newEntry.getKey());
+            if (order < 0) {
+                lines.add(String.format(removedFormat, oldEntry.getKey(), oldEntry.getValue()));
+                oldEntry = oldEntries.hasNext() ? oldEntries.next() : null;
+            } else if (order > 0) {
+                lines.add(String.format(addedFormat, newEntry.getKey(), newEntry.getValue()));
+                newEntry = newEntries.hasNext() ? newEntries.next() : null;
+            } else {
+                if (!oldEntry.getValue().equals(newEntry.getValue())) {
+                    lines.add(String.format(changedFormat, oldEntry.getKey(), oldEntry.getValue(), newEntry.getValue()));
+                }
+                oldEntry = oldEntries.hasNext() ? oldEntries.next() : null;
+                newEntry = newEntries.hasNext() ? newEntries.next() : null;
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package service;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+import model.Course;
+import model.Professor;
+
+/**
+ * The rules of an assignment: in which order the professors are served, whether a professor can take a course,
+ * and how many groups of a course a professor gets in one turn.
+ * The assignment runs in rounds. In each round every professor, in the order given by the policy, takes a turn
+ * in which they receive at most {@link #getGroupsPerTurn()} groups from their requests, in the order they were requested.
+ * Rounds are repeated until a round assigns no group; with {@link #UNLIMITED} groups per turn there is a single round.
+ */
+public interface AssignmentPolicy {
+
+    /**
+     * The number of groups per turn of a policy that serves each professor completely in one turn.
+     */
+    int UNLIMITED = Integer.MAX_VALUE;
+
+    /**
+     * Returns the name of the policy, as given on the command line.
+     *
+     * @return the name of the policy
+     */
+    String getName();
+
+    /**
+     * Returns the order in which the professors are served in the next round.
+     * With {@link #UNLIMITED} groups per turn, the order must not depend on the courses already assigned,
+     * so that a change in one selection only replays the professors served after it.
+     *
+     * @param professors the professors, ordered by seniority
+     * @param remainingHours the weekly hours each professor can still take
+     * @return the professors in the order they are to be served
+     */
+    List<Professor> order(List<Professor> professors, ToIntFunction<Professor> remainingHours);
+
+    /**
+     * Checks if a professor can be assigned groups of a course.
+     *
+     * @param professor the professor
+     * @param course the course requested
+     * @param totalHours the weekly hours the professor declared they can work
+     * @return true if the professor can take groups of the course, false otherwise
+     */
+    boolean isEligible(Professor professor, Course course, int totalHours);
+
+    /**
+     * Returns the number of groups of a course to give to an eligible professor, before they are placed in the timetable.
+     *
+     * @param professor the professor
+     * @param course the course requested
+     * @param outstandingGroups the number of groups requested and not yet assigned
+     * @param totalHours the weekly hours the professor declared they can work
+     * @return the number of groups to assign
+     */
+    int allocateGroups(Professor professor, Course course, int outstandingGroups, int totalHours);
+
+    /**
+     * Returns the maximum number of groups a professor receives in one turn.
+     *
+     * @return the number of groups per turn, or {@link #UNLIMITED}
+     */
+    int getGroupsPerTurn();
+
+    /**
+     * Returns the available policies, the default one first.
+     *
+     * @return the policies
+     */
+    static List<AssignmentPolicy> all() {
+        return List.of(new GreedyAssignmentPolicy(), new RoundRobinAssignmentPolicy(), new LoadBalancedAssignmentPolicy());
+    }
+
+    /**
+     * Returns the policy with the specified name.
+     *
+     * @param name the name of the policy
+     * @return the policy, or null if there is no policy with this name
+     */
+    static AssignmentPolicy forName(String name) {
+        for (AssignmentPolicy policy : all()) {
+            if (policy.getName().equals(name)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,464 @@
+package service;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.*;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+import datastructures.MyIntHashMap;
+import datastructures.MyPriorityQueue;
+import model.Course;
+import model.Department;
+import model.InputValidator;
+import model.Professor;
+import model.ProfessorSelection;
+import model.ProfessorSelection.CourseRequest;
+import model.Timetable;
+import model.ValidationReport;
+
+/**
+ * Runs the assignment of courses to professors under an AssignmentPolicy, the seniority-ordered greedy policy by default.
+ * The service remembers the processing order and the selection of every professor,
+ * so that a change in one selection file only replays the part of the assignment it affects.
+ */
+public class AssignmentService {
+
+    /**
+     * The name of a selection file; the group is the id of the professor.
+     */
+    public static final Pattern SELECTION_FILE = Pattern.compile("(\\d{1,9})_selection\\.txt");
+
+    private final Department department;
+    private final String resourcesDirectory;
+    private final ArrayList<Professor> processingOrder;
+    private final MyIntHashMap<ProfessorSelection> selections;
+    private final AssignmentPolicy policy;
+
+    /**
+     * Constructs a new AssignmentService for the specified department, using the greedy policy.
+     *
+     * @param department the department containing the courses
+     * @param resourcesDirectory the directory containing the selection files
+     */
+    public AssignmentService(Department department, String resourcesDirectory) {
+        this(department, resourcesDirectory, new GreedyAssignmentPolicy());
+    }
+
+    /**
+     * Constructs a new AssignmentService for the specified department, using the specified policy.
+     *
+     * @param department the department containing the courses
+     * @param resourcesDirectory the directory containing the selection files
+     * @param policy the rules of the assignment
+     */
+    public AssignmentService(Department department, String resourcesDirectory, AssignmentPolicy policy) {
+        this.department = department;
+        this.resourcesDirectory = resourcesDirectory;
+        this.processingOrder = new ArrayList<>();
+        this.selections = new MyIntHashMap<>();
+        this.policy = policy;
+    }
+
+    /**
+     * Processes each professor of the priority queue to assign them courses.
+     *
+     * @param profProcessingQueue the professors, ordered by seniority
+     */
+    public void assignAll(MyPriorityQueue<Professor> profProcessingQueue) {
+        List<Professor> professors = new ArrayList<>();
+        while (!profProcessingQueue.isEmpty()) {
+            Professor professor = profProcessingQueue.dequeue();
+            professors.add(professor);
+            selections.put(professor.getId(), fetchProfessorSelection(professor));
+        }
+        processingOrder.addAll(professors);
+        assign(professors, selections, department, policy);
+    }
+
+    /**
+     * Processes each professor of the priority queue to assign them courses, using selections read beforehand.
+     * A professor without a selection in the table requests no course; the ingestion reports their missing file.
+     *
+     * @param profProcessingQueue the professors, ordered by seniority
+     * @param selectionTable the selections of the professors
+     */
+    public void assignAll(MyPriorityQueue<Professor> profProcessingQueue, SelectionTable selectionTable) {
+        List<Professor> professors = new ArrayList<>();
+        while (!profProcessingQueue.isEmpty()) {
+            Professor professor = profProcessingQueue.dequeue();
+            professors.add(professor);
+            ProfessorSelection selection = selectionTable.get(professor.getId());
+            selections.put(professor.getId(), selection != null ? selection : ProfessorSelection.empty(professor.getId()));
+        }
+        processingOrder.addAll(professors);
+        assign(professors, selections, department, policy);
+    }
+
+    /**
+     * Re-runs the assignment for the professors whose selection file changed.
+     * Professors processed before the first changed one keep their courses. A less senior professor is
+     * re-assigned only if they requested a course that a re-assigned professor requested before or now requests.
+     * All the other professors, and the groups they took, are left untouched.
+     * A policy that serves professors over several rounds interleaves all of them, so every professor is re-assigned.
+     *
+     * @param changedProfessorIds the ids of the professors whose selection file changed
+     * @return the re-assigned professors, in processing order
+     */
+    public List<Professor> reassign(Set<Integer> changedProfessorIds) {
+        Set<String> affectedCourses = new HashSet<>();
+        List<Professor> affectedProfs = new ArrayList<>();
+        boolean replayAll = policy.getGroupsPerTurn() != AssignmentPolicy.UNLIMITED;
+
+        for (Professor professor : processingOrder) {
+            ProfessorSelection previous = selections.get(professor.getId());
+            boolean changed = changedProfessorIds.contains(professor.getId());
+            if (!replayAll && !changed && Collections.disjoint(previous.getCourseIds(), affectedCourses)) {
+                continue;
+            }
+            affectedProfs.add(professor);
+            affectedCourses.addAll(previous.getCourseIds());
+            // Las solicitudes de cursos desconocidos se volverán a contar al reasignar
+            for (CourseRequest request : previous.getCourseRequests()) {
+                if (!department.getCourseMap().containsKey(request.getCourseId())) {
+                    department.forgetRejectedCourseId(request.getCourseId());
+                }
+            }
+            if (changed) {
+                ProfessorSelection updated = fetchProfessorSelection(professor);
+                selections.put(professor.getId(), updated);
+                affectedCourses.addAll(updated.getCourseIds());
+            }
+        }
+
+        // Primero devuelve todos los grupos y luego vuelve a asignar en orden de prioridad
+        for (Professor professor : affectedProfs) {
+            releaseCourses(professor);
+        }
+        assign(affectedProfs, selections, department, policy);
+        return affectedProfs;
+    }
+
+    /**
+     * Returns the rules of the assignment.
+     *
+     * @return the policy
+     */
+    public AssignmentPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the professors in the order they were processed.
+     *
+     * @return the processing order
+     */
+    public List<Professor> getProcessingOrder() {
+        return Collections.unmodifiableList(processingOrder);
+    }
+
+    /**
+     * Returns the name of the selection file of the specified professor.
+     *
+     * @param professorId the id of the professor
+     * @return the name of the selection file
+     */
+    public String getSelectionFilename(int professorId) {
+        return resourcesDirectory + professorId + "_selection.txt";
+    }
+
+    /**
+     * Fetches the professor's course selection from its file.
+     *
+     * @param professor the professor whose course selection is to be fetched
+     * @return the selection, or an empty selection if the file could not be read
+     */
+    private ProfessorSelection fetchProfessorSelection(Professor professor) {
+        String filename = getSelectionFilename(professor.getId());
+        try {
+            return readProfessorSelectionFromFile(filename, professor.getId());
+        } catch (FileNotFoundException e) {
+            System.err.println("Error during file operation " + filename);
+            return ProfessorSelection.empty(professor.getId());
+        }
+    }
+
+    /**
+     * Reads a professor's course selection from a file.
+     * The lines that are not in the correct format are skipped and their errors are printed to the console.
+     *
+     * @param filename the name of the file containing the professor's course selection
+     * @param professorId the id of the professor whose course selection is to be read
+     * @return the selection read from the file
+     * @throws FileNotFoundException if the file does not exist
+     * @see #parseSelection(String, List, int, ValidationReport)
+     */
+    public static ProfessorSelection readProfessorSelectionFromFile(String filename, int professorId) throws FileNotFoundException {
+        List<String> lines = new ArrayList<>();
+        try (Scanner scanner = new Scanner(new File(filename))) {
+            while (scanner.hasNextLine()) {
+                lines.add(scanner.nextLine());
+            }
+        }
+        ValidationReport validationReport = new ValidationReport();
+        ProfessorSelection selection = parseSelection(filename, lines, professorId, validationReport);
+        if (validationReport.hasErrors()) {
+            validationReport.print();
+        }
+        return selection;
+    }
+
+    /**
+     * Parses the lines of a professor's selection file.
+     * The file should contain the total weekly hours the professor can work and the courses they wish to teach.
+     * Each line in the file should either contain a single integer (the total weekly hours) or two comma-separated values (the course ID and the number of groups the professor wishes to teach).
+     * A line that is not in the correct format is recorded in the report and skipped, the following lines are still parsed; blank lines are ignored.
+     *
+     * @param filename the name of the file, for the error messages
+     * @param lines the lines of the file
+     * @param professorId the id of the professor whose course selection is parsed
+     * @param validationReport the report to which the errors are added
+     * @return the selection parsed from the valid lines
+     */
+    public static ProfessorSelection parseSelection(String filename, List<String> lines, int professorId, ValidationReport validationReport) {
+        List<CourseRequest> requests = new ArrayList<>();
+        int totalHours = 0;
+        int lineNumber = 0;
+        for (String line : lines) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            validationReport.recordChecked();
+            String[] parts = line.split(",");
+            if (parts.length == 1) {
+                long hours = InputValidator.parseInt(parts[0]);
+                if (hours == InputValidator.INVALID_INT || hours < 0) {
+                    validationReport.addError(filename, lineNumber, "totalHours", "not a non-negative integer: '" + parts[0].trim() + "'");
+                    continue;
+                }
+                totalHours = (int) Math.min(hours, Professor.MAX_WEEKLY_HOURS);
+            }
+            else if (parts.length == 2) {
+                String courseId = parts[0].trim();
+                long numOfGroups = InputValidator.parseInt(parts[1]);
+                if (courseId.isEmpty()) {
+                    validationReport.addError(filename, lineNumber, "courseId", "empty");
+                }
+                else if (numOfGroups == InputValidator.INVALID_INT || numOfGroups < 0) {
+                    validationReport.addError(filename, lineNumber, "numOfGroups", "not a non-negative integer: '" + parts[1].trim() + "'");
+                }
+                else {
+                    requests.add(new CourseRequest(courseId, (int) Math.min(numOfGroups, Integer.MAX_VALUE), totalHours));
+                }
+            }
+            else {
+                validationReport.addError(filename, lineNumber, "line", "expected 1 or 2 fields separated by ',' but found " + parts.length);
+            }
+        }
+        return new ProfessorSelection(professorId, requests);
+    }
+
+    /**
+     * Assigns the courses of a selection to a professor, in the order they were requested, using the greedy policy.
+     *
+     * @param selection the selection of the professor
+     * @param professor the professor to whom the courses are to be assigned
+     * @param courseMap the department containing the courses
+     */
+    public static void applySelection(ProfessorSelection selection, Professor professor, Department courseMap) {
+        MyIntHashMap<ProfessorSelection> professorSelection = new MyIntHashMap<>();
+        professorSelection.put(professor.getId(), selection);
+        assign(List.of(professor), professorSelection, courseMap, new GreedyAssignmentPolicy());
+    }
+
+    /**
+     * Assigns courses to professors in rounds. In each round, every professor takes a turn in the order given by the policy;
+     * the rounds go on until one of them assigns no group, or stop after the first round if the policy serves each professor in one turn.
+     *
+     * @param professors the professors to whom courses are to be assigned, ordered by seniority
+     * @param selections the selections of the professors, by professor id
+     * @param courseMap the department containing the courses
+     * @param policy the rules of the assignment
+     */
+    private static void assign(List<Professor> professors, MyIntHashMap<ProfessorSelection> selections, Department courseMap, AssignmentPolicy policy) {
+        MyIntHashMap<List<PendingRequest>> pendingRequests = new MyIntHashMap<>(professors.size());
+        for (Professor professor : professors) {
+            List<PendingRequest> pending = new ArrayList<>();
+            for (CourseRequest request : selections.get(professor.getId()).getCourseRequests()) {
+                pending.add(new PendingRequest(request));
+            }
+            pendingRequests.put(professor.getId(), pending);
+        }
+        ToIntFunction<Professor> remainingHours =
+                professor -> getWeeklyHoursLimit(pendingRequests.get(professor.getId())) - professor.getTotalWeeklyHours();
+
+        boolean assigned = true;
+        while (assigned) {
+            assigned = false;
+            for (Professor professor : policy.order(professors, remainingHours)) {
+                if (takeTurn(professor, pendingRequests.get(professor.getId()), courseMap, policy) > 0) {
+                    assigned = true;
+                }
+            }
+            if (policy.getGroupsPerTurn() == AssignmentPolicy.UNLIMITED) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Gives a professor at most the number of groups per turn of the policy, from their requests in the order they were made.
+     *
+     * @param professor the professor
+     * @param pending the requests of the professor
+     * @param courseMap the department containing the courses
+     * @param policy the rules of the assignment
+     * @return the number of groups assigned in this turn
+     */
+    private static int takeTurn(Professor professor, List<PendingRequest> pending, Department courseMap, AssignmentPolicy policy) {
+        int groupsPerTurn = policy.getGroupsPerTurn();
+        int numOfGroupsAssigned = 0;
+        for (PendingRequest pendingRequest : pending) {
+            if (numOfGroupsAssigned >= groupsPerTurn) {
+                break;
+            }
+            if (!pendingRequest.done) {
+                numOfGroupsAssigned += assignCourseToProfessor(pendingRequest, professor, courseMap, policy, groupsPerTurn - numOfGroupsAssigned);
+            }
+        }
+        return numOfGroupsAssigned;
+    }
+
+    /**
+     * Returns the weekly hours a professor declared they can work: the largest value found in their selection file.
+     *
+     * @param pending the requests of the professor
+     * @return the weekly hours, or 0 if the professor requested no course
+     */
+    private static int getWeeklyHoursLimit(List<PendingRequest> pending) {
+        int limit = 0;
+        for (PendingRequest pendingRequest : pending) {
+            limit = Math.max(limit, pendingRequest.request.getTotalHours());
+        }
+        return limit;
+    }
+
+    /**
+     * Assigns groups of a requested course to a professor, according to the policy.
+     * The first time the request is served, the method checks if the course exists; unknown course ids are recorded
+     * by the department, not added to its map of courses, and a message is printed to the console.
+     * It then checks with the policy if the professor can take the course, and prints a message to the console if they cannot.
+     * Otherwise it assigns the number of groups allowed by the policy, up to the specified maximum,
+     * each group being scheduled in free periods of the professor's week so that no two groups overlap.
+     * The request is marked as done once no more groups can be assigned for it.
+     *
+     * @param pendingRequest the course requested, the number of groups still wanted, and the course assigned so far
+     * @param professor the professor to whom the course is to be assigned
+     * @param courseMap the department containing the courses
+     * @param policy the rules of the assignment
+     * @param maxGroups the maximum number of groups to assign
+     * @return the number of groups assigned
+     */
+    private static int assignCourseToProfessor(PendingRequest pendingRequest, Professor professor, Department courseMap,
+                                               AssignmentPolicy policy, int maxGroups) {
+        CourseRequest request = pendingRequest.request;
+        int totalHours = request.getTotalHours();
+        if (pendingRequest.course == null) {
+            // Comprueba si el curso existe
+            pendingRequest.course = courseMap.findCourse(request.getCourseId());
+            if (pendingRequest.course == null) {
+                // Imprime un mensaje si el curso solicitado no existe
+                System.out.printf("The professor %s requested Course %s, but not found.%n", professor.getName(), request.getCourseId());
+                pendingRequest.done = true;
+                return 0;
+            }
+        }
+        Course course = pendingRequest.course;
+
+        // Comprueba si el profesor está calificado para enseñar el curso y si tiene suficientes horas disponibles
+        if (!policy.isEligible(professor, course, totalHours)) {
+            if (pendingRequest.assigned == null) {
+                System.out.printf("The professor %s cannot be assigned to this course or has already reached the weekly hours limit.%n", professor.getName());
+            }
+            pendingRequest.done = true;
+            return 0;
+        }
+
+        // Calcula cuántos grupos puede enseñar el profesor en este turno
+        int numOfGroupsByPolicy = Math.min(policy.allocateGroups(professor, course, pendingRequest.outstandingGroups, totalHours), maxGroups);
+        // Coloca cada grupo en franjas libres del horario del profesor, sin solapamientos
+        List<long[]> placedGroups = new ArrayList<>();
+        while (placedGroups.size() < numOfGroupsByPolicy) {
+            long[] groupSlots = Timetable.findGroupSlots(professor.getOccupiedSlots(), course.getWeeklyHours());
+            if (groupSlots == null) {
+                break;
+            }
+            Timetable.occupy(professor.getOccupiedSlots(), groupSlots);
+            placedGroups.add(groupSlots);
+        }
+        int numOfGroupsAvailable = placedGroups.size();
+
+        if (pendingRequest.assigned == null) {
+            Course newCourse = new Course(course); // Crea una nueva instancia del curso
+            newCourse.setNumOfGroups(0);
+
+            //Adición del nuevo curso a la lista de cursos afectados del profesor
+            ArrayList<Course> currentCourses = Optional.ofNullable(professor.getListOfAffectedCourses()).orElse(new ArrayList<>());
+            currentCourses.add(newCourse);
+            professor.setListOfAffectedCourses(currentCourses);
+            pendingRequest.assigned = newCourse;
+        }
+        // Aumenta los grupos que el profesor enseñará y reduce en la misma cantidad los grupos disponibles del curso original
+        pendingRequest.assigned.increaseNumOfGroups(numOfGroupsAvailable);
+        for (long[] groupSlots : placedGroups) {
+            pendingRequest.assigned.addGroupSlots(groupSlots);
+        }
+        course.decreaseNumOfGroups(numOfGroupsAvailable);
+        pendingRequest.outstandingGroups -= numOfGroupsAvailable;
+
+        // Las horas y los grupos disponibles solo disminuyen: si faltó algo en este turno, no habrá más en los siguientes
+        pendingRequest.done = numOfGroupsByPolicy <= 0 || numOfGroupsAvailable < numOfGroupsByPolicy || pendingRequest.outstandingGroups <= 0;
+        return numOfGroupsAvailable;
+    }
+
+    /**
+     * Gives back to the department the groups assigned to a professor and clears their assignments.
+     *
+     * @param professor the professor whose courses are to be released
+     */
+    private void releaseCourses(Professor professor) {
+        ArrayList<Course> affectedCourses = professor.getListOfAffectedCourses();
+        if (affectedCourses != null) {
+            for (Course assigned : affectedCourses) {
+                Course course = department.getCourseMap().get(assigned.getId());
+                if (course != null) {
+                    course.increaseNumOfGroups(assigned.getNumOfGroups());
+                }
+            }
+        }
+        professor.setListOfAffectedCourses(null);
+        professor.clearOccupiedSlots();
+    }
+
+    /**
+     * Represents a course request during an assignment: the course found for it, the groups still wanted,
+     * and the course added to the professor's list once the professor was found eligible.
+     */
+    private static class PendingRequest {
+        private final CourseRequest request;
+        private Course course;
+        private Course assigned;
+        private int outstandingGroups;
+        private boolean done;
+
+        /**
+         * Constructs a new PendingRequest.
+         *
+         * @param request the course request
+         */
+        private PendingRequest(CourseRequest request) {
+            this.request = request;
+            this.outstandingGroups = request.getRequestedGroups();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,218 @@
+package service;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import model.Course;
+import model.Department;
+import model.Professor;
+
+/**
+ * A compact record of the result of an assignment: the groups of each course held by each professor,
+ * and the groups left in each course. Each professor also gets a 64-bit hash of their groups, so that
+ * comparing two snapshots only looks at the details of the professors whose hash changed.
+ * A snapshot is saved in a small binary file between runs.
+ */
+public class AssignmentSnapshot {
+    private static final int MAGIC = 0x41534E50;
+    private static final byte VERSION = 1;
+
+    private final TreeMap<Integer, ProfessorEntry> professors;
+    private final TreeMap<String, Integer> remainingGroups;
+
+    /**
+     * Constructs a new AssignmentSnapshot.
+     *
+     * @param professors the entry of each professor, by professor id
+     * @param remainingGroups the groups left in each course, by course id
+     */
+    public AssignmentSnapshot(TreeMap<Integer, ProfessorEntry> professors, TreeMap<String, Integer> remainingGroups) {
+        this.professors = professors;
+        this.remainingGroups = remainingGroups;
+    }
+
+    /**
+     * Records the current assignment of a department.
+     *
+     * @param listOfProfs the professors of the department
+     * @param department the department containing the courses
+     * @return the snapshot of the assignment
+     */
+    public static AssignmentSnapshot capture(List<Professor> listOfProfs, Department department) {
+        TreeMap<Integer, ProfessorEntry> professors = new TreeMap<>();
+        for (Professor professor : listOfProfs) {
+            TreeMap<String, Integer> groups = new TreeMap<>();
+            if (professor.getListOfAffectedCourses() != null) {
+                for (Course course : professor.getListOfAffectedCourses()) {
+                    if (course.getNumOfGroups() > 0) {
+                        groups.merge(course.getId(), course.getNumOfGroups(), Integer::sum);
+                    }
+                }
+            }
+            professors.put(professor.getId(), new ProfessorEntry(groups));
+        }
+        TreeMap<String, Integer> remainingGroups = new TreeMap<>();
+        for (Course course : department.getCourseMap().values()) {
+            remainingGroups.put(course.getId(), course.getNumOfGroups());
+        }
+        return new AssignmentSnapshot(professors, remainingGroups);
+    }
+
+    /**
+     * Reads a snapshot from a file.
+     *
+     * @param file the file
+     * @return the snapshot, or an empty snapshot if the file does not exist
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public static AssignmentSnapshot read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new AssignmentSnapshot(new TreeMap<>(), new TreeMap<>());
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("Not an assignment snapshot: " + file);
+            }
+            TreeMap<Integer, ProfessorEntry> professors = new TreeMap<>();
+            int numOfProfs = in.readInt();
+            for (int i = 0; i < numOfProfs; i++) {
+                int professorId = in.readInt();
+                long hash = in.readLong();
+                int numOfCourses = in.readInt();
+                TreeMap<String, Integer> groups = new TreeMap<>();
+                for (int j = 0; j < numOfCourses; j++) {
+                    groups.put(in.readUTF(), in.readInt());
+                }
+                professors.put(professorId, new ProfessorEntry(groups, hash));
+            }
+            TreeMap<String, Integer> remainingGroups = new TreeMap<>();
+            int numOfCourses = in.readInt();
+            for (int i = 0; i < numOfCourses; i++) {
+                remainingGroups.put(in.readUTF(), in.readInt());
+            }
+            return new AssignmentSnapshot(professors, remainingGroups);
+        }
+    }
+
+    /**
+     * Writes the snapshot to a file. The file is replaced only once the new content is completely written,
+     * by an atomic rename when the file system supports it, so that a reader never sees a partial snapshot.
+     *
+     * @param file the file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(professors.size());
+            for (Map.Entry<Integer, ProfessorEntry> entry : professors.entrySet()) {
+                out.writeInt(entry.getKey());
+                out.writeLong(entry.getValue().getHash());
+                out.writeInt(entry.getValue().getGroups().size());
+                for (Map.Entry<String, Integer> group : entry.getValue().getGroups().entrySet()) {
+                    out.writeUTF(group.getKey());
+                    out.writeInt(group.getValue());
+                }
+            }
+            out.writeInt(remainingGroups.size());
+            for (Map.Entry<String, Integer> entry : remainingGroups.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+        }
+        try {
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Sin renombrado atómico, el archivo se reemplaza en dos pasos
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the entry of each professor.
+     *
+     * @return the entries by professor id, sorted by id
+     */
+    public SortedMap<Integer, ProfessorEntry> getProfessors() {
+        return Collections.unmodifiableSortedMap(professors);
+    }
+
+    /**
+     * Returns the groups left in each course.
+     *
+     * @return the remaining groups by course id, sorted by id
+     */
+    public SortedMap<String, Integer> getRemainingGroups() {
+        return Collections.unmodifiableSortedMap(remainingGroups);
+    }
+
+    /**
+     * Represents the groups held by one professor, with their hash.
+     */
+    public static class ProfessorEntry {
+        private final TreeMap<String, Integer> groups;
+        private final long hash;
+
+        /**
+         * Constructs a new ProfessorEntry and computes its hash.
+         *
+         * @param groups the number of groups held for each course id
+         */
+        public ProfessorEntry(TreeMap<String, Integer> groups) {
+            this(groups, hash(groups));
+        }
+
+        /**
+         * Constructs a new ProfessorEntry with a known hash.
+         *
+         * @param groups the number of groups held for each course id
+         * @param hash the hash of the groups
+         */
+        private ProfessorEntry(TreeMap<String, Integer> groups, long hash) {
+            this.groups = groups;
+            this.hash = hash;
+        }
+
+        /**
+         * Returns the number of groups held for each course id.
+         *
+         * @return the groups by course id, sorted by id
+         */
+        public SortedMap<String, Integer> getGroups() {
+            return Collections.unmodifiableSortedMap(groups);
+        }
+
+        /**
+         * Returns the hash of the groups.
+         *
+         * @return the hash
+         */
+        public long getHash() {
+            return hash;
+        }
+
+        /**
+         * Computes a 64-bit FNV-1a hash of the groups, in course id order.
+         *
+         * @param groups the groups
+         * @return the hash
+         */
+        private static long hash(SortedMap<String, Integer> groups) {
+            long hash = 0xCBF29CE484222325L;
+            for (Map.Entry<String, Integer> entry : groups.entrySet()) {
+                String courseId = entry.getKey();
+                for (int i = 0; i < courseId.length(); i++) {
+                    hash = (hash ^ courseId.charAt(i)) * 0x100000001B3L;
+                }
+                hash = (hash ^ 0xFF) * 0x100000001B3L;
+                hash = (hash ^ entry.getValue()) * 0x100000001B3L;
+            }
+            return hash;
+        }
+    }
+}
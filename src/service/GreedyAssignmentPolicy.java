@@ -0,0 +1,77 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import model.Course;
+import model.Professor;
+
+/**
+ * The default policy: the most senior professor is served first and takes every group they requested,
+ * as long as they teach the discipline of the course and have hours left, before the next professor is served.
+ */
+public class GreedyAssignmentPolicy implements AssignmentPolicy {
+
+    /**
+     * Returns the name of the policy.
+     *
+     * @return "greedy"
+     */
+    @Override
+    public String getName() {
+        return "greedy";
+    }
+
+    /**
+     * Orders the professors by seniority, as defined by {@link Professor#compareTo(Professor)}: most senior first.
+     *
+     * @param professors the professors, ordered by seniority
+     * @param remainingHours the weekly hours each professor can still take, not used
+     * @return the professors, most senior first
+     */
+    @Override
+    public List<Professor> order(List<Professor> professors, ToIntFunction<Professor> remainingHours) {
+        List<Professor> order = new ArrayList<>(professors);
+        order.sort(Collections.reverseOrder());
+        return order;
+    }
+
+    /**
+     * Checks if the professor teaches the discipline of the course and has not exceeded the hours they declared.
+     *
+     * @param professor the professor
+     * @param course the course requested
+     * @param totalHours the weekly hours the professor declared they can work
+     * @return true if the professor can take groups of the course, false otherwise
+     */
+    @Override
+    public boolean isEligible(Professor professor, Course course, int totalHours) {
+        return professor.getSetOfDisciplines().contains(course.getDiscipline()) && totalHours >= professor.getTotalWeeklyHours();
+    }
+
+    /**
+     * Gives as many of the requested groups as are available and fit in the hours the professor has left.
+     *
+     * @param professor the professor
+     * @param course the course requested
+     * @param outstandingGroups the number of groups requested and not yet assigned
+     * @param totalHours the weekly hours the professor declared they can work
+     * @return the number of groups to assign
+     */
+    @Override
+    public int allocateGroups(Professor professor, Course course, int outstandingGroups, int totalHours) {
+        int availableGroups = Math.min(outstandingGroups, course.getNumOfGroups());
+        return Math.min((totalHours - professor.getTotalWeeklyHours()) / course.getWeeklyHours(), availableGroups);
+    }
+
+    /**
+     * Serves each professor completely in one turn.
+     *
+     * @return {@link #UNLIMITED}
+     */
+    @Override
+    public int getGroupsPerTurn() {
+        return UNLIMITED;
+    }
+}
@@ -0,0 +1,187 @@
+package service;
+
+import java.util.*;
+import model.ValidationReport;
+
+/**
+ * Represents the outcome of the ingestion of the selection files: the table of selections,
+ * for each file the time it took to read and parse it and the errors found in it,
+ * and the selection files of professors that were not found.
+ * Each file keeps its own errors up to a maximum, and only the first errors of all the files together are printed,
+ * so that many dirty files cannot flood the output.
+ */
+public class IngestionReport {
+
+    /**
+     * The maximum number of errors printed, over all the files.
+     */
+    public static final int MAX_PRINTED_ERRORS = ValidationReport.DEFAULT_MAX_ERRORS;
+
+    private final SelectionTable selectionTable;
+    private final List<FileReport> fileReports;
+    private final ValidationReport missingFiles;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new IngestionReport.
+     *
+     * @param selectionTable the selections read
+     * @param fileReports the report of each file
+     * @param missingFiles an error for each expected selection file that was not found
+     * @param elapsedNanos the wall-clock duration of the ingestion
+     */
+    public IngestionReport(SelectionTable selectionTable, List<FileReport> fileReports, ValidationReport missingFiles, long elapsedNanos) {
+        this.selectionTable = selectionTable;
+        this.fileReports = List.copyOf(fileReports);
+        this.missingFiles = missingFiles;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the selections read.
+     *
+     * @return the selection table
+     */
+    public SelectionTable getSelectionTable() {
+        return selectionTable;
+    }
+
+    /**
+     * Returns the report of each file.
+     *
+     * @return an unmodifiable list of file reports
+     */
+    public List<FileReport> getFileReports() {
+        return fileReports;
+    }
+
+    /**
+     * Returns the errors about the expected selection files that were not found.
+     *
+     * @return the validation report of the missing files
+     */
+    public ValidationReport getMissingFiles() {
+        return missingFiles;
+    }
+
+    /**
+     * Returns the number of files that had at least one error, counting the missing files.
+     *
+     * @return the number of files with errors
+     */
+    public int getNumOfFilesWithErrors() {
+        int count = missingFiles.getNumOfErrors();
+        for (FileReport fileReport : fileReports) {
+            if (fileReport.getValidationReport().hasErrors()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total number of errors found in the files, counting the missing files.
+     *
+     * @return the number of errors
+     */
+    public int getNumOfErrors() {
+        int count = missingFiles.getNumOfErrors();
+        for (FileReport fileReport : fileReports) {
+            count += fileReport.getValidationReport().getNumOfErrors();
+        }
+        return count;
+    }
+
+    /**
+     * Prints a summary of the ingestion: counts, latency distribution, and the errors of each file.
+     */
+    public void print() {
+        long[] latencies = new long[fileReports.size()];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = fileReports.get(i).getLatencyNanos();
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%nSelection Ingestion:%n--------------------%n");
+        System.out.printf(" Files: %d, Missing files: %d, Selections: %d, Files with errors: %d, Errors: %d, Total time: %.3f ms%n",
+                fileReports.size(), missingFiles.getNumOfErrors(), selectionTable.size(), getNumOfFilesWithErrors(), getNumOfErrors(),
+                elapsedNanos / 1_000_000.0);
+        if (latencies.length > 0) {
+            long total = 0;
+            for (long latency : latencies) {
+                total += latency;
+            }
+            System.out.printf(" Latency per file: min %.3f ms, avg %.3f ms, p95 %.3f ms, max %.3f ms%n",
+                    latencies[0] / 1_000_000.0, total / (double) latencies.length / 1_000_000.0,
+                    latencies[(int) Math.ceil(latencies.length * 0.95) - 1] / 1_000_000.0, latencies[latencies.length - 1] / 1_000_000.0);
+        }
+        List<ValidationReport> validationReports = new ArrayList<>();
+        for (FileReport fileReport : fileReports) {
+            validationReports.add(fileReport.getValidationReport());
+        }
+        validationReports.add(missingFiles);
+        // El límite se aplica al conjunto de los archivos, no a cada uno
+        int numOfPrinted = 0;
+        for (ValidationReport validationReport : validationReports) {
+            for (ValidationReport.ValidationError error : validationReport.getErrors()) {
+                if (numOfPrinted == MAX_PRINTED_ERRORS) {
+                    break;
+                }
+                System.out.println(" " + error);
+                numOfPrinted++;
+            }
+        }
+        int numOfHidden = getNumOfErrors() - numOfPrinted;
+        if (numOfHidden > 0) {
+            System.out.println(" ... " + numOfHidden + " more error(s) not shown");
+        }
+    }
+
+    /**
+     * Represents the ingestion of one selection file.
+     */
+    public static class FileReport {
+        private final String filename;
+        private final long latencyNanos;
+        private final ValidationReport validationReport;
+
+        /**
+         * Constructs a new FileReport.
+         *
+         * @param filename the name of the file
+         * @param latencyNanos the time spent reading and parsing the file
+         * @param validationReport the errors found in the file
+         */
+        public FileReport(String filename, long latencyNanos, ValidationReport validationReport) {
+            this.filename = filename;
+            this.latencyNanos = latencyNanos;
+            this.validationReport = validationReport;
+        }
+
+        /**
+         * Returns the name of the file.
+         *
+         * @return the name of the file
+         */
+        public String getFilename() {
+            return filename;
+        }
+
+        /**
+         * Returns the time spent reading and parsing the file.
+         *
+         * @return the latency, in nanoseconds
+         */
+        public long getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        /**
+         * Returns the errors found in the file.
+         *
+         * @return the validation report of the file
+         */
+        public ValidationReport getValidationReport() {
+            return validationReport;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import model.Professor;
+
+/**
+ * A load-balancing policy: before each round the professors are ordered by the weekly hours they can still take,
+ * most first, and each one receives a single group per turn. Serving first the professors with the most hours left
+ * evens out the hours. Professors with the same remaining hours are served by seniority.
+ * Eligibility and the hour cap are those of the greedy policy.
+ */
+public class LoadBalancedAssignmentPolicy extends GreedyAssignmentPolicy {
+
+    /**
+     * Returns the name of the policy.
+     *
+     * @return "load-balanced"
+     */
+    @Override
+    public String getName() {
+        return "load-balanced";
+    }
+
+    /**
+     * Orders the professors by remaining hours, most first, then by seniority.
+     *
+     * @param professors the professors, ordered by seniority
+     * @param remainingHours the weekly hours each professor can still take
+     * @return the professors in the order they are to be served
+     */
+    @Override
+    public List<Professor> order(List<Professor> professors, ToIntFunction<Professor> remainingHours) {
+        List<Professor> bySeniority = super.order(professors, remainingHours);
+        // Las horas restantes se calculan una sola vez por ronda, no en cada comparación
+        long[] keys = new long[bySeniority.size()];
+        for (int i = 0; i < keys.length; i++) {
+            // Más horas primero, y a igualdad de horas el orden de antigüedad
+            keys[i] = (long) -remainingHours.applyAsInt(bySeniority.get(i)) << 32 | i;
+        }
+        Arrays.sort(keys);
+        List<Professor> order = new ArrayList<>(keys.length);
+        for (long key : keys) {
+            order.add(bySeniority.get((int) key));
+        }
+        return order;
+    }
+
+    /**
+     * Gives one group per turn.
+     *
+     * @return 1
+     */
+    @Override
+    public int getGroupsPerTurn() {
+        return 1;
+    }
+}
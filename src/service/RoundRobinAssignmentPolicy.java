@@ -0,0 +1,29 @@
+package service;
+
+/**
+ * A fair-share policy: the professors are served in seniority order, but each one receives a single group per turn,
+ * so the groups of a contested course are shared among the professors who requested it instead of going to the most senior.
+ * Eligibility and the hour cap are those of the greedy policy.
+ */
+public class RoundRobinAssignmentPolicy extends GreedyAssignmentPolicy {
+
+    /**
+     * Returns the name of the policy.
+     *
+     * @return "round-robin"
+     */
+    @Override
+    public String getName() {
+        return "round-robin";
+    }
+
+    /**
+     * Gives one group per turn.
+     *
+     * @return 1
+     */
+    @Override
+    public int getGroupsPerTurn() {
+        return 1;
+    }
+}
@@ -0,0 +1,154 @@
+package service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import model.ProfessorSelection;
+import model.ValidationReport;
+
+/**
+ * Reads and parses all the selection files of a directory concurrently, before the assignment starts.
+ * On a slow or network-mounted directory most of the time of a read is spent waiting, so the files are read
+ * on virtual threads when the Java runtime provides them, or else on a pool of platform threads.
+ * In both cases a semaphore limits the number of files read at the same time.
+ */
+public class SelectionIngestion {
+
+    /**
+     * The default maximum number of files read at the same time.
+     */
+    public static final int DEFAULT_CONCURRENCY = 64;
+
+    private final Path directory;
+    private final int maxConcurrency;
+
+    /**
+     * Constructs a new SelectionIngestion.
+     *
+     * @param directory the directory containing the selection files
+     * @param maxConcurrency the maximum number of files read at the same time
+     */
+    public SelectionIngestion(Path directory, int maxConcurrency) {
+        this.directory = directory;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    /**
+     * Reads and parses every selection file of the directory.
+     *
+     * @return the selections read and the report of each file
+     * @throws IOException if the directory cannot be listed
+     * @throws InterruptedException if the thread is interrupted while waiting for the reads
+     */
+    public IngestionReport ingest() throws IOException, InterruptedException {
+        return ingest(List.of());
+    }
+
+    /**
+     * Reads and parses every selection file of the directory, and reports the professors who have no selection file.
+     *
+     * @param professorIds the ids of the professors expected to have a selection file
+     * @return the selections read, the report of each file and the missing files
+     * @throws IOException if the directory cannot be listed
+     * @throws InterruptedException if the thread is interrupted while waiting for the reads
+     */
+    public IngestionReport ingest(Collection<Integer> professorIds) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*_selection.txt")) {
+            for (Path file : stream) {
+                if (AssignmentService.SELECTION_FILE.matcher(file.getFileName().toString()).matches()) {
+                    files.add(file);
+                }
+            }
+        }
+        Collections.sort(files);
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        ExecutorService executor = newExecutor();
+        List<Future<Map.Entry<ProfessorSelection, IngestionReport.FileReport>>> futures = new ArrayList<>();
+        try {
+            for (Path file : files) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return readFile(file);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            List<ProfessorSelection> selections = new ArrayList<>();
+            List<IngestionReport.FileReport> fileReports = new ArrayList<>();
+            for (Future<Map.Entry<ProfessorSelection, IngestionReport.FileReport>> future : futures) {
+                Map.Entry<ProfessorSelection, IngestionReport.FileReport> entry;
+                try {
+                    entry = future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+                if (entry.getKey() != null) {
+                    selections.add(entry.getKey());
+                }
+                fileReports.add(entry.getValue());
+            }
+            SelectionTable selectionTable = new SelectionTable(selections);
+            // Un profesor sin archivo de selección no solicita ningún curso, pero se señala en el informe
+            ValidationReport missingFiles = new ValidationReport();
+            for (int professorId : professorIds) {
+                if (selectionTable.get(professorId) == null) {
+                    missingFiles.addError(professorId + "_selection.txt", 0, "file",
+                            "no selection file for professor " + professorId + ", no course is requested");
+                }
+            }
+            return new IngestionReport(selectionTable, fileReports, missingFiles, System.nanoTime() - start);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads and parses one selection file.
+     *
+     * @param file the file
+     * @return the selection, or null if the file could not be read, and the report of the file
+     */
+    private static Map.Entry<ProfessorSelection, IngestionReport.FileReport> readFile(Path file) {
+        long start = System.nanoTime();
+        String filename = file.getFileName().toString();
+        Matcher matcher = AssignmentService.SELECTION_FILE.matcher(filename);
+        matcher.matches();
+        int professorId = Integer.parseInt(matcher.group(1));
+        ValidationReport validationReport = new ValidationReport();
+        ProfessorSelection selection = null;
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            selection = AssignmentService.parseSelection(filename, lines, professorId, validationReport);
+        } catch (IOException e) {
+            validationReport.addError(filename, 0, "file", "error during file operation: " + e);
+        }
+        IngestionReport.FileReport fileReport = new IngestionReport.FileReport(filename, System.nanoTime() - start, validationReport);
+        return new AbstractMap.SimpleImmutableEntry<>(selection, fileReport);
+    }
+
+    /**
+     * Creates the executor running the reads: one virtual thread per file on Java 21 and later,
+     * a fixed pool of maxConcurrency platform threads otherwise.
+     *
+     * @return the executor
+     */
+    private ExecutorService newExecutor() {
+        try {
+            // Executors.newVirtualThreadPerTaskExecutor() no existe antes de Java 21
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(maxConcurrency);
+        }
+    }
+}
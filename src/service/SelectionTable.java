@@ -0,0 +1,43 @@
+package service;
+
+import datastructures.MyIntHashMap;
+import model.ProfessorSelection;
+
+/**
+ * An immutable table of the selections of the professors, indexed by professor id.
+ * The table is filled once by the ingestion stage and only read by the assignment.
+ */
+public class SelectionTable {
+    private final MyIntHashMap<ProfessorSelection> selections;
+
+    /**
+     * Constructs a new SelectionTable holding the specified selections.
+     *
+     * @param selections the selections; the table keeps its own copy
+     */
+    public SelectionTable(Iterable<ProfessorSelection> selections) {
+        this.selections = new MyIntHashMap<>();
+        for (ProfessorSelection selection : selections) {
+            this.selections.put(selection.getProfessorId(), selection);
+        }
+    }
+
+    /**
+     * Returns the selection of a professor.
+     *
+     * @param professorId the id of the professor
+     * @return the selection, or null if no selection was read for this professor
+     */
+    public ProfessorSelection get(int professorId) {
+        return selections.get(professorId);
+    }
+
+    /**
+     * Returns the number of selections in the table.
+     *
+     * @return the number of selections
+     */
+    public int size() {
+        return selections.size();
+    }
+}
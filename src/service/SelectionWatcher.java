@@ -0,0 +1,102 @@
+package service;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import model.Professor;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches the resources directory for changes in the selection files and re-assigns the affected professors.
+ * Changes arriving close together are grouped, so that an editor saving a file several times triggers a single update.
+ */
+public class SelectionWatcher {
+
+    /**
+     * The time without any new change after which the collected changes are applied.
+     */
+    public static final long DEBOUNCE_MILLIS = 500;
+
+    private final AssignmentService assignmentService;
+    private final Path directory;
+    private final Consumer<List<Professor>> onUpdate;
+
+    /**
+     * Constructs a new SelectionWatcher.
+     *
+     * @param assignmentService the service holding the current assignment
+     * @param directory the directory containing the selection files
+     * @param onUpdate called with the re-assigned professors after each update
+     */
+    public SelectionWatcher(AssignmentService assignmentService, Path directory, Consumer<List<Professor>> onUpdate) {
+        this.assignmentService = assignmentService;
+        this.directory = directory;
+        this.onUpdate = onUpdate;
+    }
+
+    /**
+     * Watches the directory until the thread is interrupted or the directory becomes inaccessible.
+     *
+     * @throws IOException if the directory cannot be watched
+     * @throws InterruptedException if the thread is interrupted while waiting for changes
+     */
+    public void watch() throws IOException, InterruptedException {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            System.out.println("\nWatching " + directory + " for selection changes...");
+
+            boolean valid = true;
+            while (valid) {
+                WatchKey key = watchService.take();
+                long firstChange = System.nanoTime();
+                Set<Integer> changedIds = new HashSet<>();
+                valid = collectChanges(key, changedIds);
+
+                // Espera a que no haya más cambios durante DEBOUNCE_MILLIS
+                WatchKey next;
+                while (valid && (next = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    valid = collectChanges(next, changedIds);
+                }
+                if (changedIds.isEmpty()) {
+                    continue;
+                }
+
+                long start = System.nanoTime();
+                List<Professor> affectedProfs = assignmentService.reassign(changedIds);
+                long end = System.nanoTime();
+                System.out.printf("%nSelection change for %s: re-assigned %d of %d professor(s) in %.3f ms (%.3f ms after the first change).%n",
+                        changedIds, affectedProfs.size(), assignmentService.getProcessingOrder().size(),
+                        (end - start) / 1_000_000.0, (end - firstChange) / 1_000_000.0);
+                onUpdate.accept(affectedProfs);
+            }
+        }
+    }
+
+    /**
+     * Adds the ids of the professors whose selection file is concerned by the events of a key.
+     * If events were lost, every professor is considered changed.
+     *
+     * @param key the key holding the events
+     * @param changedIds the set to which the ids are added
+     * @return true if the key is still valid, false otherwise
+     */
+    private boolean collectChanges(WatchKey key, Set<Integer> changedIds) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                for (Professor professor : assignmentService.getProcessingOrder()) {
+                    changedIds.add(professor.getId());
+                }
+                continue;
+            }
+            Matcher matcher = AssignmentService.SELECTION_FILE.matcher(event.context().toString());
+            if (matcher.matches()) {
+                changedIds.add(Integer.parseInt(matcher.group(1)));
+            }
+        }
+        return key.reset();
+    }
+}
@@ -0,0 +1,72 @@
+package service;
+
+import java.util.Set;
+
+/**
+ * Represents a part of the assignment that can run independently of the others.
+ * A shard holds the professors of one or more discipline components and the disciplines of these components:
+ * no professor outside the shard can be assigned a course of one of these disciplines.
+ */
+public class Shard {
+    private final int id;
+    private final int[] professorIds;
+    private final Set<String> disciplines;
+    private int attempts;
+
+    /**
+     * Constructs a new Shard.
+     *
+     * @param id the id of the shard
+     * @param professorIds the ids of the professors of the shard
+     * @param disciplines the disciplines of the shard
+     */
+    public Shard(int id, int[] professorIds, Set<String> disciplines) {
+        this.id = id;
+        this.professorIds = professorIds;
+        this.disciplines = Set.copyOf(disciplines);
+        this.attempts = 0;
+    }
+
+    /**
+     * Returns the id of the shard.
+     *
+     * @return the id of the shard
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the ids of the professors of the shard.
+     *
+     * @return the ids of the professors
+     */
+    public int[] getProfessorIds() {
+        return professorIds;
+    }
+
+    /**
+     * Returns the disciplines of the shard.
+     *
+     * @return an unmodifiable set of disciplines
+     */
+    public Set<String> getDisciplines() {
+        return disciplines;
+    }
+
+    /**
+     * Returns the number of times the shard was sent to a worker.
+     *
+     * @return the number of attempts
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Records that the shard is sent to a worker.
+     */
+    public void increaseAttempts() {
+        attempts++;
+    }
+}
@@ -0,0 +1,217 @@
+package service;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import model.Department;
+
+/**
+ * Runs the assignment of a department on several worker processes of the local machine.
+ * The department is split into shards by ShardPlanner, the coordinator starts the ShardWorker processes,
+ * which connect back to it on a loopback socket, and hands out the shards one at a time.
+ * When a worker dies, times out or reports a failure, its shard is given to another worker and a replacement worker is started.
+ * Once every shard is done, the results are merged into the department of the coordinator.
+ */
+public class ShardCoordinator {
+
+    /**
+     * The maximum number of times a shard is sent to a worker before the run is abandoned.
+     */
+    public static final int MAX_ATTEMPTS = 3;
+
+    /**
+     * The maximum time a worker can take to greet the coordinator or to return the result of a shard.
+     */
+    public static final int WORKER_TIMEOUT_MILLIS = 60_000;
+
+    private static final int POLL_MILLIS = 200;
+
+    private final Department department;
+    private final String resourcesDirectory;
+    private final int numOfWorkers;
+    private final LinkedBlockingQueue<Shard> pendingShards;
+    private final ConcurrentHashMap<Integer, ShardResult> results;
+    private final CopyOnWriteArrayList<Process> workers;
+    private CountDownLatch remainingShards;
+    private volatile String failure;
+    private int port;
+    private int numOfLaunches;
+    private int maxLaunches;
+
+    /**
+     * Constructs a new ShardCoordinator.
+     *
+     * @param department the department whose courses are to be assigned
+     * @param resourcesDirectory the directory containing the resource files
+     * @param numOfWorkers the number of worker processes to run at the same time
+     */
+    public ShardCoordinator(Department department, String resourcesDirectory, int numOfWorkers) {
+        this.department = department;
+        this.resourcesDirectory = resourcesDirectory;
+        this.numOfWorkers = numOfWorkers;
+        this.pendingShards = new LinkedBlockingQueue<>();
+        this.results = new ConcurrentHashMap<>();
+        this.workers = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Assigns the courses of the department to its professors using the worker processes.
+     *
+     * @throws IOException if the coordinator cannot listen or a shard failed on every attempt
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers
+     */
+    public void run() throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        List<Shard> shards = ShardPlanner.plan(department, numOfWorkers);
+        pendingShards.addAll(shards);
+        remainingShards = new CountDownLatch(shards.size());
+        int initialWorkers = Math.min(numOfWorkers, shards.size());
+        maxLaunches = initialWorkers + shards.size() * MAX_ATTEMPTS;
+
+        List<Thread> handlers = new ArrayList<>();
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            serverSocket.setSoTimeout(POLL_MILLIS);
+            port = serverSocket.getLocalPort();
+            for (int i = 0; i < initialWorkers; i++) {
+                launchWorker();
+            }
+            while (remainingShards.getCount() > 0 && failure == null) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    Thread handler = new Thread(() -> serveWorker(socket), "shard-worker-" + handlers.size());
+                    handler.start();
+                    handlers.add(handler);
+                } catch (SocketTimeoutException e) {
+                    replaceLostWorkers(handlers);
+                }
+            }
+            for (Thread handler : handlers) {
+                handler.join();
+            }
+        } finally {
+            for (Process worker : workers) {
+                worker.destroy();
+            }
+        }
+        if (failure != null) {
+            throw new IOException(failure);
+        }
+
+        // Los fragmentos no comparten profesores ni cursos, el orden de la fusión no importa
+        for (Shard shard : shards) {
+            results.get(shard.getId()).applyTo(department);
+        }
+        System.out.printf("Assigned %d shard(s) with %d worker process(es) in %.3f ms.%n",
+                shards.size(), numOfLaunches, (System.nanoTime() - start) / 1_000_000.0);
+    }
+
+    /**
+     * Sends shards to a connected worker until there is no shard left or the worker fails.
+     *
+     * @param socket the connection with the worker
+     */
+    private void serveWorker(Socket socket) {
+        Shard shard = null;
+        try (socket) {
+            socket.setSoTimeout(WORKER_TIMEOUT_MILLIS);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            ShardProtocol.readHello(in);
+            while (remainingShards.getCount() > 0 && failure == null) {
+                shard = pendingShards.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (shard == null) {
+                    continue;
+                }
+                shard.increaseAttempts();
+                ShardProtocol.writeAssign(out, shard, resourcesDirectory);
+                byte type = in.readByte();
+                if (type == ShardProtocol.FAILURE) {
+                    in.readInt();
+                    throw new IOException(in.readUTF());
+                } else if (type != ShardProtocol.RESULT) {
+                    throw new IOException("Unexpected message type " + type);
+                }
+                ShardResult result = ShardProtocol.readResult(in);
+                results.put(result.getShardId(), result);
+                shard = null;
+                remainingShards.countDown();
+            }
+            ShardProtocol.writeShutdown(out);
+        } catch (IOException e) {
+            if (shard != null) {
+                reassign(shard, e.toString());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Puts back a shard whose worker failed, or abandons the run if the shard failed too many times.
+     *
+     * @param shard the shard
+     * @param reason the reason of the failure
+     */
+    private void reassign(Shard shard, String reason) {
+        if (shard.getAttempts() >= MAX_ATTEMPTS) {
+            failure = "Shard " + shard.getId() + " failed " + shard.getAttempts() + " times, last error: " + reason;
+            return;
+        }
+        System.err.println("Worker failed on shard " + shard.getId() + " (" + reason + "), reassigning it.");
+        pendingShards.add(shard);
+        launchWorker();
+    }
+
+    /**
+     * Starts a new worker if shards are waiting and no worker is alive to take them.
+     *
+     * @param handlers the threads serving the connected workers
+     */
+    private void replaceLostWorkers(List<Thread> handlers) {
+        if (pendingShards.isEmpty()) {
+            return;
+        }
+        for (Process worker : workers) {
+            if (worker.isAlive()) {
+                return;
+            }
+        }
+        for (Thread handler : handlers) {
+            if (handler.isAlive()) {
+                return;
+            }
+        }
+        launchWorker();
+    }
+
+    /**
+     * Starts a worker process that connects back to the coordinator.
+     * Its standard output is discarded, its errors are shown with those of the coordinator.
+     */
+    private synchronized void launchWorker() {
+        if (numOfLaunches >= maxLaunches) {
+            failure = "Too many worker processes failed to start or died";
+            return;
+        }
+        numOfLaunches++;
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                ShardWorker.class.getName(), String.valueOf(port))
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT);
+        try {
+            workers.add(builder.start());
+        } catch (IOException e) {
+            System.err.println("Error while starting a worker: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package service;
+
+import java.util.*;
+import model.Department;
+import model.Professor;
+
+/**
+ * Splits the assignment of a department into shards that can be processed by different workers.
+ * A professor can only be assigned courses of their disciplines, so two professors compete for courses only if they
+ * are linked by a chain of shared disciplines. The disciplines are grouped into connected components with a union-find,
+ * and whole components are distributed over the shards, the largest first on the least loaded shard.
+ * Running the greedy assignment on each shard separately then gives the same result as running it on the whole department.
+ */
+public class ShardPlanner {
+
+    private ShardPlanner() {
+    }
+
+    /**
+     * Splits the professors of a department into at most the specified number of shards.
+     *
+     * @param department the department to split
+     * @param maxShards the maximum number of shards
+     * @return the non-empty shards
+     */
+    public static List<Shard> plan(Department department, int maxShards) {
+        HashMap<String, Integer> disciplineIndex = new HashMap<>();
+        for (Professor professor : department.getListOfProfs()) {
+            for (String discipline : professor.getSetOfDisciplines()) {
+                disciplineIndex.putIfAbsent(discipline, disciplineIndex.size());
+            }
+        }
+
+        int[] parent = new int[disciplineIndex.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        for (Professor professor : department.getListOfProfs()) {
+            int first = -1;
+            for (String discipline : professor.getSetOfDisciplines()) {
+                int index = disciplineIndex.get(discipline);
+                if (first < 0) {
+                    first = find(parent, index);
+                } else {
+                    parent[find(parent, index)] = first;
+                }
+            }
+        }
+
+        // Agrupa profesores y disciplinas por componente; los profesores sin disciplina forman la componente -1
+        HashMap<Integer, List<Integer>> componentProfs = new HashMap<>();
+        HashMap<Integer, Set<String>> componentDisciplines = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : disciplineIndex.entrySet()) {
+            componentDisciplines.computeIfAbsent(find(parent, entry.getValue()), root -> new HashSet<>()).add(entry.getKey());
+        }
+        for (Professor professor : department.getListOfProfs()) {
+            Iterator<String> disciplines = professor.getSetOfDisciplines().iterator();
+            int root = disciplines.hasNext() ? find(parent, disciplineIndex.get(disciplines.next())) : -1;
+            componentProfs.computeIfAbsent(root, key -> new ArrayList<>()).add(professor.getId());
+        }
+
+        List<Integer> components = new ArrayList<>(componentProfs.keySet());
+        components.sort((a, b) -> Integer.compare(componentProfs.get(b).size(), componentProfs.get(a).size()));
+        int numOfShards = Math.max(1, Math.min(maxShards, components.size()));
+        List<List<Integer>> shardProfs = new ArrayList<>();
+        List<Set<String>> shardDisciplines = new ArrayList<>();
+        for (int i = 0; i < numOfShards; i++) {
+            shardProfs.add(new ArrayList<>());
+            shardDisciplines.add(new HashSet<>());
+        }
+        for (int component : components) {
+            int lightest = 0;
+            for (int i = 1; i < numOfShards; i++) {
+                if (shardProfs.get(i).size() < shardProfs.get(lightest).size()) {
+                    lightest = i;
+                }
+            }
+            shardProfs.get(lightest).addAll(componentProfs.get(component));
+            shardDisciplines.get(lightest).addAll(componentDisciplines.getOrDefault(component, Set.of()));
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < numOfShards; i++) {
+            if (!shardProfs.get(i).isEmpty()) {
+                int[] ids = shardProfs.get(i).stream().mapToInt(Integer::intValue).toArray();
+                shards.add(new Shard(shards.size(), ids, shardDisciplines.get(i)));
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Finds the root of the component of an element, compressing the path on the way.
+     *
+     * @param parent the parent of each element
+     * @param index the element
+     * @return the root of the component
+     */
+    private static int find(int[] parent, int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+}
@@ -0,0 +1,250 @@
+package service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+import model.Timetable;
+
+/**
+ * The binary protocol spoken between the shard coordinator and its workers over a local socket.
+ * Every message starts with a one-byte type. Integers are written big-endian and strings in modified UTF-8,
+ * as done by DataOutputStream.
+ * <pre>
+ * HELLO    (worker)      magic:int version:byte
+ * ASSIGN   (coordinator) shardId:int resourcesDirectory:utf numProfs:int profId:int* numDisciplines:int discipline:utf*
+ * RESULT   (worker)      shardId:int numProfs:int (profId:int numCourses:int (courseId:utf groups:int slot:long[DAYS]*)*)*
+ *                        numCourses:int (courseId:utf remainingGroups:int)* numRejected:int (courseId:utf count:int)*
+ * FAILURE  (worker)      shardId:int message:utf
+ * SHUTDOWN (coordinator)
+ * </pre>
+ */
+public class ShardProtocol {
+
+    /**
+     * The first int sent by a worker, "SHRD" in ASCII.
+     */
+    public static final int MAGIC = 0x53485244;
+
+    /**
+     * The version of the protocol.
+     */
+    public static final byte VERSION = 2;
+
+    /**
+     * The type of the greeting sent by a worker once connected.
+     */
+    public static final byte HELLO = 1;
+
+    /**
+     * The type of a shard sent to a worker.
+     */
+    public static final byte ASSIGN = 2;
+
+    /**
+     * The type of the result of a shard.
+     */
+    public static final byte RESULT = 3;
+
+    /**
+     * The type of the message sent by a worker that could not process a shard.
+     */
+    public static final byte FAILURE = 4;
+
+    /**
+     * The type of the order for a worker to stop.
+     */
+    public static final byte SHUTDOWN = 5;
+
+    private ShardProtocol() {
+    }
+
+    /**
+     * Writes the greeting of a worker.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public static void writeHello(DataOutputStream out) throws IOException {
+        out.writeByte(HELLO);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.flush();
+    }
+
+    /**
+     * Reads the greeting of a worker.
+     *
+     * @param in the stream to read from
+     * @throws IOException if the stream cannot be read or the greeting is not valid
+     */
+    public static void readHello(DataInputStream in) throws IOException {
+        if (in.readByte() != HELLO || in.readInt() != MAGIC || in.readByte() != VERSION) {
+            throw new IOException("Not a shard worker or unsupported protocol version");
+        }
+    }
+
+    /**
+     * Writes a shard to be processed by a worker.
+     *
+     * @param out the stream to write to
+     * @param shard the shard
+     * @param resourcesDirectory the directory containing the resource files
+     * @throws IOException if the stream cannot be written
+     */
+    public static void writeAssign(DataOutputStream out, Shard shard, String resourcesDirectory) throws IOException {
+        out.writeByte(ASSIGN);
+        out.writeInt(shard.getId());
+        out.writeUTF(resourcesDirectory);
+        out.writeInt(shard.getProfessorIds().length);
+        for (int professorId : shard.getProfessorIds()) {
+            out.writeInt(professorId);
+        }
+        out.writeInt(shard.getDisciplines().size());
+        for (String discipline : shard.getDisciplines()) {
+            out.writeUTF(discipline);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a shard sent by the coordinator, after its type byte.
+     *
+     * @param in the stream to read from
+     * @return the resources directory and the shard
+     * @throws IOException if the stream cannot be read
+     */
+    public static Map.Entry<String, Shard> readAssign(DataInputStream in) throws IOException {
+        int shardId = in.readInt();
+        String resourcesDirectory = in.readUTF();
+        int[] professorIds = new int[in.readInt()];
+        for (int i = 0; i < professorIds.length; i++) {
+            professorIds[i] = in.readInt();
+        }
+        int numOfDisciplines = in.readInt();
+        Set<String> disciplines = new HashSet<>();
+        for (int i = 0; i < numOfDisciplines; i++) {
+            disciplines.add(in.readUTF());
+        }
+        return Map.entry(resourcesDirectory, new Shard(shardId, professorIds, disciplines));
+    }
+
+    /**
+     * Writes the result of a shard.
+     *
+     * @param out the stream to write to
+     * @param result the result
+     * @throws IOException if the stream cannot be written
+     */
+    public static void writeResult(DataOutputStream out, ShardResult result) throws IOException {
+        out.writeByte(RESULT);
+        out.writeInt(result.getShardId());
+        out.writeInt(result.getAssignments().size());
+        for (ShardResult.ProfessorAssignment assignment : result.getAssignments()) {
+            out.writeInt(assignment.getProfessorId());
+            out.writeInt(assignment.getGroups().size());
+            for (Map.Entry<String, List<long[]>> entry : assignment.getGroups()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (long[] groupSlots : entry.getValue()) {
+                    for (long day : groupSlots) {
+                        out.writeLong(day);
+                    }
+                }
+            }
+        }
+        writeCounts(out, result.getRemainingGroups());
+        writeCounts(out, result.getRejectedCourseIds());
+        out.flush();
+    }
+
+    /**
+     * Reads the result of a shard, after its type byte.
+     *
+     * @param in the stream to read from
+     * @return the result
+     * @throws IOException if the stream cannot be read
+     */
+    public static ShardResult readResult(DataInputStream in) throws IOException {
+        int shardId = in.readInt();
+        int numOfProfs = in.readInt();
+        List<ShardResult.ProfessorAssignment> assignments = new ArrayList<>(numOfProfs);
+        for (int i = 0; i < numOfProfs; i++) {
+            int professorId = in.readInt();
+            int numOfCourses = in.readInt();
+            List<Map.Entry<String, List<long[]>>> groups = new ArrayList<>(numOfCourses);
+            for (int j = 0; j < numOfCourses; j++) {
+                String courseId = in.readUTF();
+                int numOfGroups = in.readInt();
+                List<long[]> slots = new ArrayList<>(numOfGroups);
+                for (int k = 0; k < numOfGroups; k++) {
+                    long[] groupSlots = Timetable.emptySchedule();
+                    for (int day = 0; day < groupSlots.length; day++) {
+                        groupSlots[day] = in.readLong();
+                    }
+                    slots.add(groupSlots);
+                }
+                groups.add(Map.entry(courseId, slots));
+            }
+            assignments.add(new ShardResult.ProfessorAssignment(professorId, groups));
+        }
+        return new ShardResult(shardId, assignments, readCounts(in), readCounts(in));
+    }
+
+    /**
+     * Writes the failure of a worker to process a shard.
+     *
+     * @param out the stream to write to
+     * @param shardId the id of the shard
+     * @param message the reason of the failure
+     * @throws IOException if the stream cannot be written
+     */
+    public static void writeFailure(DataOutputStream out, int shardId, String message) throws IOException {
+        out.writeByte(FAILURE);
+        out.writeInt(shardId);
+        out.writeUTF(String.valueOf(message));
+        out.flush();
+    }
+
+    /**
+     * Writes the order for a worker to stop.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public static void writeShutdown(DataOutputStream out) throws IOException {
+        out.writeByte(SHUTDOWN);
+        out.flush();
+    }
+
+    /**
+     * Writes a map of counts by course id.
+     *
+     * @param out the stream to write to
+     * @param counts the counts
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeCounts(DataOutputStream out, Map<String, Integer> counts) throws IOException {
+        out.writeInt(counts.size());
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    /**
+     * Reads a map of counts by course id.
+     *
+     * @param in the stream to read from
+     * @return the counts, in the order they were written
+     * @throws IOException if the stream cannot be read
+     */
+    private static LinkedHashMap<String, Integer> readCounts(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        LinkedHashMap<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            counts.put(in.readUTF(), in.readInt());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,167 @@
+package service;
+
+import java.util.*;
+import model.Course;
+import model.Department;
+import model.Professor;
+import model.Timetable;
+
+/**
+ * Represents the outcome of the assignment of one shard: the groups of each professor of the shard with the periods of each group,
+ * the groups left in each course of the shard's disciplines, and the unknown course ids that were requested.
+ */
+public class ShardResult {
+    private final int shardId;
+    private final List<ProfessorAssignment> assignments;
+    private final LinkedHashMap<String, Integer> remainingGroups;
+    private final LinkedHashMap<String, Integer> rejectedCourseIds;
+
+    /**
+     * Constructs a new ShardResult.
+     *
+     * @param shardId the id of the shard
+     * @param assignments the assignment of each professor of the shard
+     * @param remainingGroups the number of groups left in each course of the shard
+     * @param rejectedCourseIds the unknown course ids requested in the shard, with their request counts
+     */
+    public ShardResult(int shardId, List<ProfessorAssignment> assignments, LinkedHashMap<String, Integer> remainingGroups,
+                       LinkedHashMap<String, Integer> rejectedCourseIds) {
+        this.shardId = shardId;
+        this.assignments = assignments;
+        this.remainingGroups = remainingGroups;
+        this.rejectedCourseIds = rejectedCourseIds;
+    }
+
+    /**
+     * Collects the result of a shard from the department in which it was processed.
+     *
+     * @param shard the shard
+     * @param department the department after the assignment of the shard
+     * @return the result of the shard
+     */
+    public static ShardResult fromDepartment(Shard shard, Department department) {
+        List<ProfessorAssignment> assignments = new ArrayList<>();
+        for (int professorId : shard.getProfessorIds()) {
+            Professor professor = department.getProfessorById(professorId);
+            List<Map.Entry<String, List<long[]>>> groups = new ArrayList<>();
+            if (professor.getListOfAffectedCourses() != null) {
+                for (Course course : professor.getListOfAffectedCourses()) {
+                    groups.add(Map.entry(course.getId(), course.getGroupSlots()));
+                }
+            }
+            assignments.add(new ProfessorAssignment(professorId, groups));
+        }
+        LinkedHashMap<String, Integer> remainingGroups = new LinkedHashMap<>();
+        for (Course course : department.getCourseMap().values()) {
+            if (shard.getDisciplines().contains(course.getDiscipline())) {
+                remainingGroups.put(course.getId(), course.getNumOfGroups());
+            }
+        }
+        return new ShardResult(shard.getId(), assignments, remainingGroups, new LinkedHashMap<>(department.getRejectedCourseIds()));
+    }
+
+    /**
+     * Copies the result into the department of the coordinator.
+     * The professors of the shard get their courses, the periods of their groups and their schedule,
+     * and the courses of the shard their remaining groups.
+     *
+     * @param department the department of the coordinator
+     */
+    public void applyTo(Department department) {
+        for (ProfessorAssignment assignment : assignments) {
+            Professor professor = department.getProfessorById(assignment.getProfessorId());
+            ArrayList<Course> affectedCourses = new ArrayList<>();
+            professor.clearOccupiedSlots();
+            for (Map.Entry<String, List<long[]>> entry : assignment.getGroups()) {
+                Course newCourse = new Course(department.getCourseMap().get(entry.getKey()));
+                newCourse.setNumOfGroups(entry.getValue().size());
+                for (long[] groupSlots : entry.getValue()) {
+                    newCourse.addGroupSlots(groupSlots);
+                    Timetable.occupy(professor.getOccupiedSlots(), groupSlots);
+                }
+                affectedCourses.add(newCourse);
+            }
+            // Como en la asignación local, un profesor sin cursos queda con una lista nula
+            professor.setListOfAffectedCourses(affectedCourses.isEmpty() ? null : affectedCourses);
+        }
+        for (Map.Entry<String, Integer> entry : remainingGroups.entrySet()) {
+            department.getCourseMap().get(entry.getKey()).setNumOfGroups(entry.getValue());
+        }
+        for (Map.Entry<String, Integer> entry : rejectedCourseIds.entrySet()) {
+            department.recordRejectedCourseId(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the id of the shard.
+     *
+     * @return the id of the shard
+     */
+    public int getShardId() {
+        return shardId;
+    }
+
+    /**
+     * Returns the assignment of each professor of the shard.
+     *
+     * @return the assignments
+     */
+    public List<ProfessorAssignment> getAssignments() {
+        return assignments;
+    }
+
+    /**
+     * Returns the number of groups left in each course of the shard.
+     *
+     * @return the remaining groups by course id
+     */
+    public Map<String, Integer> getRemainingGroups() {
+        return remainingGroups;
+    }
+
+    /**
+     * Returns the unknown course ids requested in the shard, with their request counts.
+     *
+     * @return the rejected course ids
+     */
+    public Map<String, Integer> getRejectedCourseIds() {
+        return rejectedCourseIds;
+    }
+
+    /**
+     * Represents the groups assigned to one professor, with the periods of each group.
+     */
+    public static class ProfessorAssignment {
+        private final int professorId;
+        private final List<Map.Entry<String, List<long[]>>> groups;
+
+        /**
+         * Constructs a new ProfessorAssignment.
+         *
+         * @param professorId the id of the professor
+         * @param groups the course ids and the periods of each group assigned, in assignment order
+         */
+        public ProfessorAssignment(int professorId, List<Map.Entry<String, List<long[]>>> groups) {
+            this.professorId = professorId;
+            this.groups = groups;
+        }
+
+        /**
+         * Returns the id of the professor.
+         *
+         * @return the id of the professor
+         */
+        public int getProfessorId() {
+            return professorId;
+        }
+
+        /**
+         * Returns the course ids and the periods of each group assigned, in assignment order.
+         *
+         * @return the assigned groups
+         */
+        public List<Map.Entry<String, List<long[]>>> getGroups() {
+            return groups;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package service;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.*;
+import datastructures.MyPriorityQueue;
+import model.Department;
+import model.Professor;
+
+/**
+ * A worker process of the sharded assignment.
+ * The worker connects to the coordinator on the local machine, then processes the shards it receives one after the other
+ * with the usual Department and AssignmentService, until it is told to stop.
+ */
+public class ShardWorker {
+
+    /**
+     * The entry point of a worker process.
+     *
+     * @param args the port on which the coordinator listens
+     */
+    public static void main(String[] args) {
+        int port = Integer.parseInt(args[0]);
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            ShardProtocol.writeHello(out);
+            while (in.readByte() == ShardProtocol.ASSIGN) {
+                Map.Entry<String, Shard> assign = ShardProtocol.readAssign(in);
+                Shard shard = assign.getValue();
+                try {
+                    ShardProtocol.writeResult(out, process(shard, assign.getKey()));
+                } catch (RuntimeException e) {
+                    ShardProtocol.writeFailure(out, shard.getId(), e.toString());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Shard worker stopped: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the greedy assignment for the professors of a shard.
+     * The worker keeps the whole catalogue so that courses of other disciplines are not reported as unknown;
+     * the professors of the shard cannot be assigned any of them anyway.
+     *
+     * @param shard the shard
+     * @param resourcesDirectory the directory containing the resource files
+     * @return the result of the shard
+     */
+    static ShardResult process(Shard shard, String resourcesDirectory) {
+        Set<Integer> shardProfIds = new HashSet<>();
+        for (int professorId : shard.getProfessorIds()) {
+            shardProfIds.add(professorId);
+        }
+        ArrayList<Professor> listOfProfs = new ArrayList<>();
+        MyPriorityQueue<Professor> profProcessingQueue = new MyPriorityQueue<>();
+        for (Professor professor : Department.readProfessorsFromFile(resourcesDirectory + "profs.txt")) {
+            if (shardProfIds.contains(professor.getId())) {
+                listOfProfs.add(professor);
+                profProcessingQueue.enqueue(professor);
+            }
+        }
+
+        Department department = new Department(listOfProfs);
+        AssignmentService assignmentService = new AssignmentService(department, resourcesDirectory);
+        assignmentService.assignAll(profProcessingQueue);
+        return ShardResult.fromDepartment(shard, department);
+    }
+}